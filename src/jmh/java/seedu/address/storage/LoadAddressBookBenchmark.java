@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Measures how long it takes to load a json data file of many persons, which validates every field of every person.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoadAddressBookBenchmark {
+
+    @Param("50000")
+    private int personCount;
+
+    private Path folder;
+    private JsonAddressBookStorage storage;
+
+    /**
+     * Writes a data file of {@code personCount} persons with distinct, valid fields.
+     */
+    @Setup
+    public void writeDataFile() throws IOException {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new Person(new Name("Student " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("student" + i + "@u.nus.edu"), new Nusnetid(String.format("E%07d", i)),
+                    new Telegram("@student" + i), new GroupId(String.format("T%02d", i % 100)),
+                    new HomeworkTracker()));
+        }
+        folder = Files.createTempDirectory("load-benchmark");
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the data file and the folder it was written to.
+     */
+    @TearDown
+    public void deleteDataFile() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+}
@@ -23,6 +23,8 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -57,10 +59,19 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = userPrefs.isAddressBookFileBinary()
+                ? new BinaryAddressBookStorage(
+                        BinaryAddressBookStorage.getBinaryFilePath(userPrefs.getAddressBookFilePath()),
+                        userPrefs.getAddressBookFilePath())
+                : new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.isAddressBookFilePrettyPrinted());
+        if (userPrefs.isAddressBookJournaled()) {
+            addressBookStorage = new JournaledAddressBookStorage(addressBookStorage);
+        }
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        model.setDataFilePaths(StorageManager.getAddressBookFilePaths(userPrefs.getAddressBookFilePath()));
 
         logic = new LogicManager(model, storage);
 
@@ -184,6 +195,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flush();
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,95 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing comma-separated values.
+ * Fields may be enclosed in double quotes, within which commas are kept and {@code ""} stands for one double quote.
+ */
+public class CsvUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits a single line of comma-separated values into its fields.
+     *   <br>examples:<pre>
+     *       splitLine("a, b,c") == ["a", " b", "c"]
+     *       splitLine("\"Lee, Ann\",\"say \"\"hi\"\"\"") == ["Lee, Ann", "say \"hi\""]
+     *       </pre>
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed.
+     */
+    public static List<String> splitLine(String line) {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new IllegalArgumentException("A quoted field is not closed.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Appends {@code field} to {@code line}, enclosing it in double quotes if it contains a comma, a double quote,
+     * a line break, or leading or trailing spaces.
+     */
+    public static void appendField(StringBuilder line, String field) {
+        requireNonNull(line);
+        requireNonNull(field);
+        if (!needsQuotes(field)) {
+            line.append(field);
+            return;
+        }
+        line.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                line.append(QUOTE);
+            }
+            line.append(c);
+        }
+        line.append(QUOTE);
+    }
+
+    private static boolean needsQuotes(String field) {
+        if (field.isEmpty()) {
+            return false;
+        }
+        if (field.charAt(0) == ' ' || field.charAt(field.length() - 1) == ' ') {
+            return true;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares a single instance among equal immutable values, like {@link String#intern()}.
+ * Only weak references to the values are kept, so a value that is no longer used elsewhere can be garbage collected.
+ * Safe for use by multiple threads.
+ *
+ * @param <T> the type of the values, which must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> canonicalValues = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which is {@code value} itself if no equal value
+     * is in use.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = canonicalValues.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical == null) {
+            canonicalValues.put(value, new WeakReference<>(value));
+            canonical = value;
+        }
+        return canonical;
+    }
+}
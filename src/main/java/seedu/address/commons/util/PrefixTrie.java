@@ -0,0 +1,156 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compact prefix trie (radix tree) from string keys to sets of values.
+ * Each edge is labelled with a string rather than a single character, and a node with no values of its own always
+ * has at least two children, so the trie has fewer nodes than twice the number of keys. Finding the values under a
+ * prefix therefore takes time proportional to the length of the prefix plus the number of values found.
+ * Not safe for use by multiple threads.
+ *
+ * @param <V> the type of the values.
+ */
+public class PrefixTrie<V> {
+
+    private final Node<V> root = new Node<>("");
+
+    /**
+     * Adds {@code value} under {@code key}.
+     */
+    public void add(String key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Node<V> node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node<V> child = node.children.get(key.charAt(i));
+            if (child == null) {
+                Node<V> leaf = new Node<>(key.substring(i));
+                node.children.put(key.charAt(i), leaf);
+                node = leaf;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                // The key leaves the edge part of the way along, so the edge is split where they part
+                Node<V> middle = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(key.charAt(i), middle);
+                child = middle;
+            }
+            node = child;
+            i += common;
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * Removes {@code value} from under {@code key}, if it is there.
+     *
+     * @return true if the value was removed.
+     */
+    public boolean remove(String key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        return remove(root, key, 0, value);
+    }
+
+    private static <V> boolean remove(Node<V> node, String key, int i, V value) {
+        if (i == key.length()) {
+            return node.values.remove(value);
+        }
+        char first = key.charAt(i);
+        Node<V> child = node.children.get(first);
+        if (child == null || !key.startsWith(child.label, i)) {
+            return false;
+        }
+        if (!remove(child, key, i + child.label.length(), value)) {
+            return false;
+        }
+
+        // Keep the trie compact by dropping the child if it became empty, or merging it into its only child
+        if (child.values.isEmpty() && child.children.isEmpty()) {
+            node.children.remove(first);
+        } else if (child.values.isEmpty() && child.children.size() == 1) {
+            Node<V> grandchild = child.children.values().iterator().next();
+            grandchild.label = child.label + grandchild.label;
+            node.children.put(first, grandchild);
+        }
+        return true;
+    }
+
+    /**
+     * Removes all keys and values.
+     */
+    public void clear() {
+        root.children.clear();
+        root.values.clear();
+    }
+
+    /**
+     * Returns the values under every key that starts with {@code prefix}.
+     */
+    public Set<V> findByPrefix(String prefix) {
+        requireNonNull(prefix);
+        Set<V> found = new HashSet<>();
+        Node<V> node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node<V> child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return found;
+            }
+            int remaining = prefix.length() - i;
+            if (remaining <= child.label.length()) {
+                // The prefix ends on this edge, so every key below it matches if the edge continues the prefix
+                if (!child.label.regionMatches(0, prefix, i, remaining)) {
+                    return found;
+                }
+            } else if (!prefix.startsWith(child.label, i)) {
+                return found;
+            }
+            node = child;
+            i += child.label.length();
+        }
+        collectValues(node, found);
+        return found;
+    }
+
+    private static <V> void collectValues(Node<V> from, Set<V> found) {
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.push(from);
+        while (!pending.isEmpty()) {
+            Node<V> node = pending.pop();
+            found.addAll(node.values);
+            node.children.values().forEach(pending::push);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int keyOffset) {
+        int length = Math.min(label.length(), key.length() - keyOffset);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(keyOffset + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static class Node<V> {
+        private final Map<Character, Node<V>> children = new HashMap<>();
+        private final Set<V> values = new HashSet<>();
+        private String label;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
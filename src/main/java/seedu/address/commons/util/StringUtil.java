@@ -38,6 +38,21 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} in a form shared by exactly the strings that it equals ignoring case, so that the result
+     * can be used as a key where comparisons should be case-insensitive.
+     * Each character is upper-cased and then lower-cased, which is the comparison made by
+     * {@link String#equalsIgnoreCase(String)}.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        StringBuilder folded = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(s.charAt(i))));
+        }
+        return folded.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
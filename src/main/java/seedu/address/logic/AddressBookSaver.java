@@ -0,0 +1,90 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves snapshots of the address book to storage on a background thread.
+ * Snapshots handed in while a save is in progress are coalesced, so that only the latest of them is written next.
+ */
+class AddressBookSaver {
+
+    private final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Storage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private volatile Consumer<String> errorHandler = message -> {};
+
+    AddressBookSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is given a message for the user whenever a save fails.
+     * The handler is called on the saving thread.
+     */
+    void setErrorHandler(Consumer<String> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved. {@code snapshot} must not be modified afterwards.
+     */
+    void save(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::saveLatestSnapshot);
+        }
+    }
+
+    /**
+     * Waits until every snapshot scheduled so far has been saved, or has failed to save.
+     */
+    void flush() {
+        try {
+            executor.submit(this::saveLatestSnapshot).get();
+        } catch (ExecutionException e) {
+            logger.severe("Unexpected error while saving address book: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void saveLatestSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (AccessDeniedException e) {
+            reportFailure(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } catch (IOException ioe) {
+            reportFailure(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, ioe.getMessage()));
+        }
+    }
+
+    private void reportFailure(String message) {
+        logger.warning(message);
+        errorHandler.accept(message);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +26,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given a message for the user whenever saving the address book fails.
+     * Saving happens in the background, so the handler may be called from a thread other than the caller's.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Waits until every change made to the address book so far has been saved.
+     */
+    void flush();
+
     /**
      * Returns the AddressBook.
      *
@@ -1,10 +1,10 @@
 package seedu.address.logic;
 
-import java.io.IOException;
-import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +13,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Consultation;
@@ -21,6 +22,7 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * The address book is saved in the background after each command that changed it, see {@link AddressBookSaver}.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -31,16 +33,23 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaver addressBookSaver;
     private final AddressBookParser addressBookParser;
+    private boolean isAddressBookModified = false;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.addressBookSaver = new AddressBookSaver(storage);
         addressBookParser = new AddressBookParser();
+
+        ListChangeListener<Object> modificationListener = change -> isAddressBookModified = true;
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        addressBook.getPersonList().addListener(modificationListener);
+        addressBook.getConsultationList().addListener(modificationListener);
+        addressBook.getGroupList().addListener(modificationListener);
     }
 
     @Override
@@ -49,19 +58,33 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+        } finally {
+            // A failed command may still have changed the address book before failing
+            saveIfModified();
         }
 
         return commandResult;
     }
 
+    private void saveIfModified() {
+        if (isAddressBookModified) {
+            isAddressBookModified = false;
+            addressBookSaver.save(AddressBookSnapshot.of(model.getAddressBook()));
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        addressBookSaver.setErrorHandler(saveErrorHandler);
+    }
+
+    @Override
+    public void flush() {
+        addressBookSaver.flush();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -66,8 +67,9 @@ public class AddConsultationCommand extends Command {
             throw new CommandException(MESSAGE_STUDENT_DOES_NOT_EXIST);
         }
 
-        if (model.hasConsultation(toAdd) || model.hasOverlappingConsultation(toAdd)) {
-            logger.warning("Attempted to add overlapping consultation: " + toAdd);
+        List<Consultation> overlapping = model.getConsultationsBetween(toAdd.getFrom(), toAdd.getTo());
+        if (!overlapping.isEmpty()) {
+            logger.warning("Attempted to add consultation " + toAdd + " overlapping with: " + overlapping);
             throw new CommandException(MESSAGE_OVERLAPPING_CONSULTATION);
         }
 
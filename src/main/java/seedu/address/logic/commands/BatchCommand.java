@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Runs the commands read from a file as a single change to the address book.
+ * The commands run against a copy of the address book, which replaces the displayed one only if every command
+ * succeeds, so a failed batch leaves the address book as it was and the lists shown are refreshed only once.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a text file, one per line, as a single change. "
+            + "If any command fails, none of the changes are kept. "
+            + "Blank lines and lines starting with # are skipped. "
+            + "Commands that pick a student by index, such as delete and edit_student, cannot be run, "
+            + "and neither can export, help and exit.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/week3.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands.";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\nNo changes from the batch were kept.";
+
+    private final SortedMap<Integer, Command> commandsByLine;
+
+    /**
+     * Creates a BatchCommand to run the given commands, keyed by the line of the file they were read from.
+     */
+    public BatchCommand(Map<Integer, Command> commandsByLine) {
+        requireNonNull(commandsByLine);
+        this.commandsByLine = new TreeMap<>(commandsByLine);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Model transaction = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        for (Map.Entry<Integer, Command> entry : commandsByLine.entrySet()) {
+            try {
+                entry.getValue().execute(transaction);
+            } catch (CommandException e) {
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, entry.getKey(), e.getMessage()), e);
+            }
+        }
+
+        model.setAddressBook(transaction.getAddressBook());
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandsByLine.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return commandsByLine.equals(otherBatchCommand.commandsByLine);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandsByLine", commandsByLine)
+                .toString();
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves the students in the displayed list, with their attendance and homework, to a CSV file.
+ * Each student is written out as soon as their row is formatted, so exporting allocates a bounded amount of memory
+ * however many students are listed.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves the students currently listed to a CSV file, "
+            + "with their attendance for each week and the status of each assignment. "
+            + "An existing file is replaced.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/T01.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d students to %2$s.";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not write to the file %1$s: %2$s";
+    public static final String MESSAGE_DATA_FILE = "%1$s is where the app keeps its data. Export to another file.";
+
+    /** Names the same columns as {@code import} reads, so an exported file can be imported again. */
+    static final String HEADER = createHeader();
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to save the listed students to {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (isDataFile(filePath, model)) {
+            throw new CommandException(String.format(MESSAGE_DATA_FILE, filePath));
+        }
+
+        List<Person> persons = model.getFilteredPersonList();
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
+                writer.write(HEADER);
+                writer.newLine();
+                StringBuilder row = new StringBuilder();
+                for (Person person : persons) {
+                    row.setLength(0);
+                    appendRow(row, person);
+                    writer.append(row);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), filePath));
+    }
+
+    /**
+     * Returns true if {@code filePath} is the address book file of {@code model} or one of its other data files.
+     */
+    private static boolean isDataFile(Path filePath, Model model) {
+        Path target = filePath.toAbsolutePath().normalize();
+        List<Path> dataFilePaths = new ArrayList<>(model.getDataFilePaths());
+        dataFilePaths.add(model.getAddressBookFilePath());
+        for (Path dataFilePath : dataFilePaths) {
+            Path normalizedDataFilePath = dataFilePath.toAbsolutePath().normalize();
+            if (normalizedDataFilePath.equals(target)) {
+                return true;
+            }
+            try {
+                // Also catches a path that differs only in case on file systems that ignore case
+                if (Files.exists(target) && Files.exists(normalizedDataFilePath)
+                        && Files.isSameFile(target, normalizedDataFilePath)) {
+                    return true;
+                }
+            } catch (IOException e) {
+                // The files cannot be compared, so they are taken to differ
+            }
+        }
+        return false;
+    }
+
+    private static String createHeader() {
+        StringBuilder header = new StringBuilder("name,nusnetid,telegram,group,phone,email");
+        for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+            header.append(",week").append(week);
+        }
+        for (int id = 1; id <= HomeworkTracker.MAX_ASSIGNMENTS; id++) {
+            header.append(",hw").append(id);
+        }
+        return header.toString();
+    }
+
+    /**
+     * Appends the fields of {@code person} to {@code row}, leaving the fields of unmarked weeks and assignments empty.
+     */
+    private static void appendRow(StringBuilder row, Person person) {
+        CsvUtil.appendField(row, person.getName().fullName);
+        row.append(',');
+        CsvUtil.appendField(row, person.getNusnetid().value);
+        row.append(',');
+        CsvUtil.appendField(row, person.getTelegram().value);
+        row.append(',');
+        CsvUtil.appendField(row, person.getGroupId().value);
+        row.append(',');
+        CsvUtil.appendField(row, person.getPhone().map(phone -> phone.value).orElse(""));
+        row.append(',');
+        CsvUtil.appendField(row, person.getEmail().map(email -> email.value).orElse(""));
+
+        AttendanceSheet attendanceSheet = person.getAttendanceSheet();
+        for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+            row.append(',');
+            Optional<Attendance> attendance = attendanceSheet.getAttendanceForWeek(week);
+            if (attendance.isPresent()) {
+                row.append(attendance.get().getAttendanceStatus().getStatus());
+            }
+        }
+
+        HomeworkTracker homeworkTracker = person.getHomeworkTracker();
+        for (int id = 1; id <= HomeworkTracker.MAX_ASSIGNMENTS; id++) {
+            row.append(',');
+            if (homeworkTracker.hasAssignment(id)) {
+                row.append(homeworkTracker.getStatus(id));
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -1,15 +1,23 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUSNETID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.IdentityPrefixPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, or whose NUSNET ID,
+ * telegram handle or email starts with the given prefix.
+ * Matching is case insensitive, and matches are looked up in the indexes kept by the address book.
  */
 public class FindCommand extends Command {
 
@@ -17,19 +25,30 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Alternatively, finds all students whose NUSNET ID, telegram handle or email starts with a prefix.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... or "
+            + PREFIX_NUSNETID + "PREFIX or " + PREFIX_TELEGRAM + "PREFIX or " + PREFIX_EMAIL + "PREFIX\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NUSNETID + "E12";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
+    public FindCommand(IdentityPrefixPredicate predicate) {
+        this.predicate = predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (predicate instanceof IdentityPrefixPredicate) {
+            model.updateFilteredPersonListByPrefix((IdentityPrefixPredicate) predicate);
+        } else {
+            model.updateFilteredPersonListByName(((NameContainsKeywordsPredicate) predicate).getKeywords());
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Adds the students read from a CSV file to the address book.
+ * Students that already exist in the address book are skipped, and the rest are added as a single change.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students in a CSV file to the address book. "
+            + "The first row names the columns: name, nusnetid, telegram and group are required, "
+            + "phone and email are optional. Rows that are invalid or repeat an existing student are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/roster.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d students.";
+    public static final String MESSAGE_ROWS_SKIPPED = "\nSkipped %1$d rows:";
+    public static final String MESSAGE_ROW_ERROR = "\nRow %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROWS_SKIPPED = "\n... and %1$d more.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "This student already exists in the address book.";
+    public static final int MAX_ROW_ERRORS_SHOWN = 10;
+
+    private final SortedMap<Integer, Person> personsByRow;
+    private final SortedMap<Integer, String> errorsByRow;
+
+    /**
+     * Creates an ImportCommand to add the given students, keyed by the row of the file they were read from.
+     * {@code errorsByRow} holds the reasons the other rows of the file were skipped.
+     */
+    public ImportCommand(Map<Integer, Person> personsByRow, Map<Integer, String> errorsByRow) {
+        requireAllNonNull(personsByRow, errorsByRow);
+        this.personsByRow = new TreeMap<>(personsByRow);
+        this.errorsByRow = new TreeMap<>(errorsByRow);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        SortedMap<Integer, String> skippedRows = new TreeMap<>(errorsByRow);
+        List<Person> toAdd = new ArrayList<>(personsByRow.size());
+        for (Map.Entry<Integer, Person> entry : personsByRow.entrySet()) {
+            if (model.hasPerson(entry.getValue())) {
+                skippedRows.put(entry.getKey(), MESSAGE_DUPLICATE_PERSON);
+            } else {
+                toAdd.add(entry.getValue());
+            }
+        }
+
+        if (!toAdd.isEmpty()) {
+            model.addPersons(toAdd);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size()) + describeSkippedRows(skippedRows));
+    }
+
+    private static String describeSkippedRows(SortedMap<Integer, String> skippedRows) {
+        if (skippedRows.isEmpty()) {
+            return "";
+        }
+        StringBuilder description = new StringBuilder(String.format(MESSAGE_ROWS_SKIPPED, skippedRows.size()));
+        int shown = 0;
+        for (Map.Entry<Integer, String> entry : skippedRows.entrySet()) {
+            if (shown++ == MAX_ROW_ERRORS_SHOWN) {
+                break;
+            }
+            description.append(String.format(MESSAGE_ROW_ERROR, entry.getKey(), entry.getValue()));
+        }
+        if (skippedRows.size() > MAX_ROW_ERRORS_SHOWN) {
+            description.append(String.format(MESSAGE_MORE_ROWS_SKIPPED, skippedRows.size() - MAX_ROW_ERRORS_SHOWN));
+        }
+        return description.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return personsByRow.equals(otherImportCommand.personsByRow)
+                && errorsByRow.equals(otherImportCommand.errorsByRow);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personsByRow", personsByRow)
+                .add("errorsByRow", errorsByRow)
+                .toString();
+    }
+}
@@ -1,24 +1,94 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONSULTATIONS;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 
 /**
- * Lists all consultations in the address book to the user.
+ * Lists all consultations in the address book to the user, or only those that overlap a given window.
  */
 public class ListConsultationCommand extends Command {
 
     public static final String COMMAND_WORD = "list_consult";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all consultations, or only those that "
+            + "overlap the window between the given start and end times.\n"
+            + "Parameters: "
+            + "[" + PREFIX_FROM + "WINDOW START TIME "
+            + PREFIX_TO + "WINDOW END TIME]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "20251010 0800 "
+            + PREFIX_TO + "20251010 1800";
+
     public static final String MESSAGE_SUCCESS = "Listed all consultations";
+    public static final String MESSAGE_SUCCESS_BETWEEN = "Listed %1$d consultations between %2$s and %3$s";
+
+    private static final DateTimeFormatter WINDOW_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
 
+    /**
+     * Creates a ListConsultationCommand that lists all consultations.
+     */
+    public ListConsultationCommand() {
+        this.from = null;
+        this.to = null;
+    }
+
+    /**
+     * Creates a ListConsultationCommand that lists the consultations overlapping the window from {@code from} to
+     * {@code to}.
+     */
+    public ListConsultationCommand(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredConsultationList(PREDICATE_SHOW_ALL_CONSULTATIONS);
-        return new CommandResult(MESSAGE_SUCCESS, false, false, true);
+        if (from == null) {
+            model.updateFilteredConsultationList(PREDICATE_SHOW_ALL_CONSULTATIONS);
+            return new CommandResult(MESSAGE_SUCCESS, false, false, true);
+        }
+        model.updateFilteredConsultationListBetween(from, to);
+        String message = String.format(MESSAGE_SUCCESS_BETWEEN, model.getFilteredConsultationList().size(),
+                from.format(WINDOW_FORMATTER), to.format(WINDOW_FORMATTER));
+        return new CommandResult(message, false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListConsultationCommand)) {
+            return false;
+        }
+
+        ListConsultationCommand otherListConsultationCommand = (ListConsultationCommand) other;
+        return Objects.equals(from, otherListConsultationCommand.from)
+                && Objects.equals(to, otherListConsultationCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
     }
 }
@@ -0,0 +1,108 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the batch file %1$s.";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_BATCH = "A batch cannot run another batch.";
+    public static final String MESSAGE_EMPTY_BATCH = "The batch file %1$s has no commands.";
+    public static final String MESSAGE_INDEX_BASED_COMMAND = "A batch cannot run %1$s, as it picks a student by their "
+            + "index in the displayed list. Use a command that picks students by NUSNET ID instead.";
+    public static final String MESSAGE_NON_DATA_COMMAND = "A batch cannot run %1$s, as it does not change the "
+            + "address book. Only the changes to the address book are undone when a later line fails.";
+    private static final String COMMENT_MARKER = "#";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * Every line of the file is parsed before any command runs.
+     *
+     * @throws ParseException if the file cannot be read or any of its lines is not a valid command
+     */
+    @Override
+    public BatchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path filePath = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(filePath);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, trimmedArgs), e);
+        }
+
+        Map<Integer, Command> commandsByLine = parseLines(lines);
+        if (commandsByLine.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_BATCH, trimmedArgs));
+        }
+        return new BatchCommand(commandsByLine);
+    }
+
+    /**
+     * Parses each line that is not blank or a comment into a command, keyed by its line number starting from 1.
+     */
+    private static Map<Integer, Command> parseLines(List<String> lines) throws ParseException {
+        AddressBookParser addressBookParser = new AddressBookParser();
+        Map<Integer, Command> commandsByLine = new HashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            Command command;
+            try {
+                command = addressBookParser.parseCommand(line);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()), pe);
+            }
+            if (command instanceof BatchCommand) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, MESSAGE_NESTED_BATCH));
+            }
+            // The displayed list when the file was written need not be the one shown when it runs
+            if (command instanceof DeleteCommand || command instanceof EditCommand) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber,
+                        String.format(MESSAGE_INDEX_BASED_COMMAND, commandWordOf(line))));
+            }
+            // An exported file cannot be taken back, and the window cannot act on a batched help or exit
+            if (command instanceof ExportCommand || command instanceof HelpCommand
+                    || command instanceof ExitCommand) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber,
+                        String.format(MESSAGE_NON_DATA_COMMAND, commandWordOf(line))));
+            }
+            commandsByLine.put(lineNumber, command);
+        }
+        return commandsByLine;
+    }
+
+    private static String commandWordOf(String line) {
+        return line.split("\\s+", 2)[0];
+    }
+}
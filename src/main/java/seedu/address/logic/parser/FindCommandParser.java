@@ -1,11 +1,17 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUSNETID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
 
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.IdentityPrefixPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
@@ -13,6 +19,8 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_PREFIX_NOT_ONE_WORD = "The prefix to search for should be a single word.";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -25,9 +33,48 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NUSNETID, PREFIX_TELEGRAM, PREFIX_EMAIL);
+        Optional<Prefix> searchedPrefix = Stream.of(PREFIX_NUSNETID, PREFIX_TELEGRAM, PREFIX_EMAIL)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .findFirst();
+        if (searchedPrefix.isPresent()) {
+            return parsePrefixSearch(argMultimap, searchedPrefix.get());
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
+    /**
+     * Parses a search for the persons whose field named by {@code searchedPrefix} starts with the value given.
+     * Exactly one of the searchable prefixes may be given, with a single word after it and nothing before it.
+     */
+    private static FindCommand parsePrefixSearch(ArgumentMultimap argMultimap, Prefix searchedPrefix)
+            throws ParseException {
+        long prefixCount = Stream.of(PREFIX_NUSNETID, PREFIX_TELEGRAM, PREFIX_EMAIL)
+                .mapToLong(prefix -> argMultimap.getAllValues(prefix).size())
+                .sum();
+        String value = argMultimap.getValue(searchedPrefix).get().trim();
+        if (prefixCount > 1 || !argMultimap.getPreamble().isEmpty() || value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        if (value.split("\\s+").length > 1) {
+            throw new ParseException(MESSAGE_PREFIX_NOT_ONE_WORD);
+        }
+
+        return new FindCommand(new IdentityPrefixPredicate(toField(searchedPrefix), value));
+    }
+
+    private static IdentityPrefixPredicate.Field toField(Prefix prefix) {
+        if (prefix.equals(PREFIX_NUSNETID)) {
+            return IdentityPrefixPredicate.Field.NUSNETID;
+        } else if (prefix.equals(PREFIX_TELEGRAM)) {
+            return IdentityPrefixPredicate.Field.TELEGRAM;
+        } else {
+            return IdentityPrefixPredicate.Field.EMAIL;
+        }
+    }
+
 }
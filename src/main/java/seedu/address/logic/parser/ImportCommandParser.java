@@ -0,0 +1,265 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the CSV file %1$s.";
+    public static final String MESSAGE_EMPTY_FILE = "The CSV file %1$s has no students.";
+    public static final String MESSAGE_MISSING_COLUMNS = "The first row of the CSV file must name the columns "
+            + "name, nusnetid, telegram and group, and may name the columns phone and email.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+    public static final String MESSAGE_DUPLICATE_ROW = "Same student as row %1$d.";
+
+    private static final String COLUMN_NAME = "name";
+    private static final String COLUMN_NUSNETID = "nusnetid";
+    private static final String COLUMN_TELEGRAM = "telegram";
+    private static final String COLUMN_GROUP = "group";
+    private static final String COLUMN_PHONE = "phone";
+    private static final String COLUMN_EMAIL = "email";
+
+    /** Spreadsheets start the files they export as "CSV UTF-8" with a byte order mark. */
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * The rows of the file are validated in parallel, and the rows that are invalid or repeat an earlier row are
+     * left out of the command and reported by it instead.
+     *
+     * @throws ParseException if the file cannot be read or its first row does not name the required columns
+     */
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(trimmedArgs));
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, trimmedArgs), e);
+        }
+        if (lines.size() < 2) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_FILE, trimmedArgs));
+        }
+
+        String headerLine = lines.get(0);
+        if (headerLine.startsWith(BYTE_ORDER_MARK)) {
+            headerLine = headerLine.substring(BYTE_ORDER_MARK.length());
+        }
+        Columns columns = Columns.of(headerLine);
+        // Rows are numbered as in a spreadsheet, so the header is row 1
+        List<Row> rows = IntStream.range(1, lines.size())
+                .parallel()
+                .filter(i -> !lines.get(i).isBlank())
+                .mapToObj(i -> parseRow(i + 1, lines.get(i), columns))
+                .collect(Collectors.toList());
+
+        Map<Integer, Person> personsByRow = new TreeMap<>();
+        Map<Integer, String> errorsByRow = new TreeMap<>();
+        Map<Object, Integer> rowsByIdentityField = new HashMap<>();
+        for (Row row : rows) {
+            if (row.error != null) {
+                errorsByRow.put(row.number, row.error);
+                continue;
+            }
+            Integer earlierRow = findEarlierRow(rowsByIdentityField, row);
+            if (earlierRow != null) {
+                errorsByRow.put(row.number, String.format(MESSAGE_DUPLICATE_ROW, earlierRow));
+                continue;
+            }
+            personsByRow.put(row.number, row.person);
+        }
+        return new ImportCommand(personsByRow, errorsByRow);
+    }
+
+    /**
+     * Returns the earlier row that shares an identity field with {@code row}, or records the identity fields of
+     * {@code row} and returns null if there is none.
+     */
+    private static Integer findEarlierRow(Map<Object, Integer> rowsByIdentityField, Row row) {
+        // The identity field classes never equal one another, so a single map can hold all four kinds of key.
+        List<Object> identityFields = new ArrayList<>(4);
+        identityFields.add(row.person.getNusnetid());
+        identityFields.add(row.person.getTelegram());
+        row.person.getPhone().ifPresent(identityFields::add);
+        row.person.getEmail().ifPresent(identityFields::add);
+        for (Object identityField : identityFields) {
+            Integer earlierRow = rowsByIdentityField.get(identityField);
+            if (earlierRow != null) {
+                return earlierRow;
+            }
+        }
+        for (Object identityField : identityFields) {
+            rowsByIdentityField.put(identityField, row.number);
+        }
+        return null;
+    }
+
+    /**
+     * Validates a single row and creates the student it describes.
+     * Every invalid field is reported, as with {@link AddCommandParser}.
+     */
+    private static Row parseRow(int number, String line, Columns columns) {
+        List<String> fields;
+        try {
+            fields = CsvUtil.splitLine(line);
+        } catch (IllegalArgumentException e) {
+            return Row.invalid(number, e.getMessage());
+        }
+        if (fields.size() != columns.count) {
+            return Row.invalid(number, String.format(MESSAGE_WRONG_FIELD_COUNT, columns.count, fields.size()));
+        }
+
+        List<String> errors = new ArrayList<>();
+        Name name = null;
+        Nusnetid nusnetid = null;
+        Telegram telegram = null;
+        GroupId groupId = null;
+        Phone phone = null;
+        Email email = null;
+
+        try {
+            name = ParserUtil.parseName(fields.get(columns.name));
+        } catch (ParseException e) {
+            errors.add("Name: " + e.getMessage());
+        }
+
+        try {
+            nusnetid = ParserUtil.parseNusnetid(fields.get(columns.nusnetid));
+        } catch (ParseException e) {
+            errors.add("NUSNET ID: " + e.getMessage());
+        }
+
+        try {
+            telegram = ParserUtil.parseTelegram(fields.get(columns.telegram));
+        } catch (ParseException e) {
+            errors.add("Telegram: " + e.getMessage());
+        }
+
+        try {
+            groupId = ParserUtil.parseGroupId(fields.get(columns.group));
+        } catch (ParseException e) {
+            errors.add("Group: " + e.getMessage());
+        }
+
+        if (columns.phone != -1) {
+            try {
+                phone = ParserUtil.parsePhone(fields.get(columns.phone));
+            } catch (ParseException e) {
+                errors.add("Phone: " + e.getMessage());
+            }
+        }
+
+        if (columns.email != -1) {
+            try {
+                email = ParserUtil.parseEmail(fields.get(columns.email));
+            } catch (ParseException e) {
+                errors.add("Email: " + e.getMessage());
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            return Row.invalid(number, String.join(" ", errors));
+        }
+        return Row.valid(number, new Person(name, phone, email, nusnetid, telegram, groupId, new HomeworkTracker()));
+    }
+
+    /**
+     * The position of each column in the rows of a CSV file, or -1 for an optional column that is absent.
+     */
+    private static class Columns {
+        private final int count;
+        private final int name;
+        private final int nusnetid;
+        private final int telegram;
+        private final int group;
+        private final int phone;
+        private final int email;
+
+        private Columns(List<String> header) {
+            count = header.size();
+            name = header.indexOf(COLUMN_NAME);
+            nusnetid = header.indexOf(COLUMN_NUSNETID);
+            telegram = header.indexOf(COLUMN_TELEGRAM);
+            group = header.indexOf(COLUMN_GROUP);
+            phone = header.indexOf(COLUMN_PHONE);
+            email = header.indexOf(COLUMN_EMAIL);
+        }
+
+        /**
+         * Finds the columns named in the header row {@code line}, ignoring case and any other columns.
+         *
+         * @throws ParseException if a required column is not named
+         */
+        static Columns of(String line) throws ParseException {
+            List<String> header;
+            try {
+                header = CsvUtil.splitLine(line).stream()
+                        .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toList());
+            } catch (IllegalArgumentException e) {
+                throw new ParseException(MESSAGE_MISSING_COLUMNS, e);
+            }
+            Columns columns = new Columns(header);
+            if (columns.name == -1 || columns.nusnetid == -1 || columns.telegram == -1 || columns.group == -1) {
+                throw new ParseException(MESSAGE_MISSING_COLUMNS);
+            }
+            return columns;
+        }
+    }
+
+    /**
+     * The result of parsing one row: either the student it describes or the reason it is invalid.
+     */
+    private static class Row {
+        private final int number;
+        private final Person person;
+        private final String error;
+
+        private Row(int number, Person person, String error) {
+            this.number = number;
+            this.person = person;
+            this.error = error;
+        }
+
+        static Row valid(int number, Person person) {
+            return new Row(number, person, null);
+        }
+
+        static Row invalid(int number, String error) {
+            return new Row(number, null, error);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+
+import seedu.address.logic.commands.ListConsultationCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.Consultation;
+
+/**
+ * Parses input arguments and creates a new ListConsultationCommand object
+ */
+public class ListConsultationCommandParser implements Parser<ListConsultationCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListConsultationCommand
+     * and returns a ListConsultationCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListConsultationCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+        boolean hasFrom = argMultimap.getValue(PREFIX_FROM).isPresent();
+        boolean hasTo = argMultimap.getValue(PREFIX_TO).isPresent();
+
+        if (!argMultimap.getPreamble().isEmpty() || hasFrom != hasTo) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ListConsultationCommand.MESSAGE_USAGE));
+        }
+        if (!hasFrom) {
+            return new ListConsultationCommand();
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+        LocalDateTime from = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDateTime to = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_TO).get());
+        if (!Consultation.isValidConsultation(from, to)) {
+            throw new ParseException(Consultation.MESSAGE_CONSTRAINTS);
+        }
+        return new ListConsultationCommand(from, to);
+    }
+}
@@ -67,10 +67,8 @@ public class MarkAllAttendanceCommandParser implements Parser<MarkAllAttendanceC
         } catch (IllegalArgumentException e) {
             errors.add(MarkAllAttendanceCommand.MESSAGE_INVALID_STATUS);
         }
-        GroupId targetGroupId = null;
-        if (GroupId.isValidGroupId(groupIdRaw)) {
-            targetGroupId = new GroupId(groupIdRaw);
-        } else {
+        GroupId targetGroupId = GroupId.parse(groupIdRaw).orElse(null);
+        if (targetGroupId == null) {
             errors.add(GroupId.MESSAGE_CONSTRAINTS);
         }
 
@@ -45,10 +45,7 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-        }
-        return new Name(trimmedName);
+        return Name.parse(trimmedName).orElseThrow(() -> new ParseException(Name.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -63,10 +60,7 @@ public class ParserUtil {
         if (trimmedPhone.isEmpty()) {
             return null; // signal clear to EditCommand
         }
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        return new Phone(trimmedPhone);
+        return Phone.parse(trimmedPhone).orElseThrow(() -> new ParseException(Phone.MESSAGE_CONSTRAINTS));
     }
     /**
      * Parses a {@code String nusnetid} into an {@code NUSnetid}.
@@ -77,10 +71,8 @@ public class ParserUtil {
     public static Nusnetid parseNusnetid(String nusnetid) throws ParseException {
         requireNonNull(nusnetid);
         String trimmedNusnetid = nusnetid.trim();
-        if (!Nusnetid.isValidNusnetid(trimmedNusnetid)) {
-            throw new ParseException(Nusnetid.MESSAGE_CONSTRAINTS);
-        }
-        return new Nusnetid(trimmedNusnetid);
+        return Nusnetid.parse(trimmedNusnetid)
+                .orElseThrow(() -> new ParseException(Nusnetid.MESSAGE_CONSTRAINTS));
     }
     /**
      * Parses a {@code String email} into an {@code Email}.
@@ -94,10 +86,7 @@ public class ParserUtil {
         if (trimmedEmail.isEmpty()) {
             return null; // signal clear to EditCommand
         }
-        if (!Email.isValidEmail(trimmedEmail)) {
-            throw new ParseException(Email.MESSAGE_CONSTRAINTS);
-        }
-        return new Email(trimmedEmail);
+        return Email.parse(trimmedEmail).orElseThrow(() -> new ParseException(Email.MESSAGE_CONSTRAINTS));
     }
     /**
      * Parses a {@code String Telegram} into an {@code Telegram}.
@@ -108,10 +97,8 @@ public class ParserUtil {
     public static Telegram parseTelegram(String telegram) throws ParseException {
         requireNonNull(telegram);
         String trimmedTelegram = telegram.trim();
-        if (!Telegram.isValidTelegram(trimmedTelegram)) {
-            throw new ParseException(Telegram.MESSAGE_CONSTRAINTS);
-        }
-        return new Telegram(trimmedTelegram);
+        return Telegram.parse(trimmedTelegram)
+                .orElseThrow(() -> new ParseException(Telegram.MESSAGE_CONSTRAINTS));
     }
     /**
      * Parses a {@code String input} into a {@code LocalDateTime}.
@@ -146,9 +133,6 @@ public class ParserUtil {
     public static GroupId parseGroupId(String groupId) throws ParseException {
         requireNonNull(groupId);
         String trimmed = groupId.trim();
-        if (!GroupId.isValidGroupId(trimmed)) {
-            throw new ParseException(GroupId.MESSAGE_CONSTRAINTS);
-        }
-        return new GroupId(trimmed);
+        return GroupId.parse(trimmed).orElseThrow(() -> new ParseException(GroupId.MESSAGE_CONSTRAINTS));
     }
 }
@@ -1,10 +1,21 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
@@ -14,6 +25,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.event.UniqueConsultationList;
 import seedu.address.model.person.GroupId;
+import seedu.address.model.person.IdentityPrefixPredicate;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -22,12 +34,15 @@ import seedu.address.model.person.exceptions.DuplicatePersonException;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Group membership is indexed by group as sets of NUSNET IDs, which the groups of this address book share and
+ * resolve against the person list.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueConsultationList consultations;
     private final UniqueGroupList groups;
+    private final Map<GroupId, Set<Nusnetid>> groupMembers;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -40,6 +55,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         consultations = new UniqueConsultationList();
         groups = new UniqueGroupList();
+        groupMembers = new HashMap<>();
     }
 
     public AddressBook() {}
@@ -77,19 +93,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         return groups.contains(groupId);
     }
     /**
-     * Replaces the contents of the group list with {@code groups}.
+     * Replaces the contents of the group list with copies of {@code groups} that belong to this address book.
      * {@code groups} must not contain duplicate groups.
      */
     public void setGroupList(List<Group> groups) {
-        this.groups.setGroups(groups);
+        requireNonNull(groups);
+        List<Group> ownGroups = new ArrayList<>(groups.size());
+        Map<GroupId, Set<Nusnetid>> members = new HashMap<>();
+        for (Group g : groups) {
+            Set<Nusnetid> studentIds = new LinkedHashSet<>(g.getStudentIds());
+            ownGroups.add(new Group(g.getGroupId(), studentIds, persons::find));
+            members.put(g.getGroupId(), studentIds);
+        }
+        this.groups.setGroups(ownGroups);
+        groupMembers.clear();
+        groupMembers.putAll(members);
     }
     /**
-     * Adds a group to the address book.
+     * Adds a copy of the group, with the same students, to the address book.
      * The group must not already exist in the address book.
      */
     public void addGroup(Group g) {
         requireNonNull(g);
-        this.groups.add(g);
+        Set<Nusnetid> studentIds = new LinkedHashSet<>(g.getStudentIds());
+        this.groups.add(new Group(g.getGroupId(), studentIds, persons::find));
+        groupMembers.put(g.getGroupId(), studentIds);
     }
     /**
      * Gets a group by GroupId, or null if not present.
@@ -135,6 +163,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.find(nusnetid);
     }
 
+    /**
+     * Returns a predicate that tests whether a person in the address book has any of {@code keywords} as a word of
+     * their name, ignoring case. Matches are resolved from an index of the words in the names.
+     */
+    public Predicate<Person> nameContainsAnyOf(List<String> keywords) {
+        return persons.nameContainsAnyOf(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests whether a consultation in the address book overlaps the window from {@code from}
+     * (inclusive) to {@code to} (exclusive). Matches are resolved from an interval tree over the consultations.
+     */
+    public Predicate<Consultation> consultationsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return consultations.overlapping(from, to);
+    }
+
+    /**
+     * Returns a predicate that tests the persons in the address book the same way as {@code predicate}.
+     * Matches are resolved from a prefix trie over the field searched.
+     */
+    public Predicate<Person> matchingPrefix(IdentityPrefixPredicate predicate) {
+        return persons.matchingPrefix(predicate);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -144,6 +196,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the address book as a single change to the person list, and to their groups.
+     * None of the persons may already exist in the address book or share an identity with one another.
+     */
+    public void addPersons(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        persons.addAll(toAdd);
+        for (Person person : toAdd) {
+            updateGroupWhenAddPerson(person);
+        }
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -153,6 +217,40 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
     }
+    /**
+     * Replaces each person in {@code targets} with the result of applying {@code update} to them, as a single change
+     * to the person list. Every person in {@code targets} must exist in the address book, and {@code update} must
+     * keep the identity fields and the group of each person.
+     *
+     * @return the updated persons, in the order of {@code targets}.
+     */
+    public List<Person> updatePersons(Collection<Person> targets, UnaryOperator<Person> update) {
+        requireAllNonNull(targets, update);
+        return persons.updatePersons(targets, person -> {
+            Person updated = update.apply(person);
+            checkArgument(updated.getGroupId().equals(person.getGroupId()),
+                    "A batch update cannot move a person to another group.");
+            return updated;
+        });
+    }
+
+    /**
+     * Replaces every person matching {@code predicate} with the result of applying {@code update} to them, as a single
+     * change to the person list. {@code update} must keep the identity fields and the group of each person.
+     *
+     * @return the updated persons, in the order of the person list.
+     */
+    public List<Person> updatePersons(Predicate<Person> predicate, UnaryOperator<Person> update) {
+        requireAllNonNull(predicate, update);
+        List<Person> targets = new ArrayList<>();
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                targets.add(person);
+            }
+        }
+        return targets.isEmpty() ? targets : updatePersons(targets, update);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -170,17 +268,16 @@ public class AddressBook implements ReadOnlyAddressBook {
     @Override
     public void updateGroupWhenAddPerson(Person person) {
         requireNonNull(person);
-        if (!groups.contains(person.getGroupId())) {
-            Group newGroup = new Group(person.getGroupId());
-            this.addGroup(newGroup);
-            newGroup.addStudent(person);
-        } else {
-            addPersonToExistingGroup(person);
-        }
+        membersOf(person.getGroupId()).add(person.getNusnetid());
     }
-    private void addPersonToExistingGroup(Person person) {
-        Group group = groups.getGroup(person.getGroupId());
-        group.addStudent(person);
+    /**
+     * Returns the NUSNET IDs of the students in the group {@code groupId}, creating the group if it does not exist.
+     */
+    private Set<Nusnetid> membersOf(GroupId groupId) {
+        if (!groupMembers.containsKey(groupId)) {
+            addGroup(new Group(groupId));
+        }
+        return groupMembers.get(groupId);
     }
     /**
      * Removes a person from their existing group.
@@ -188,8 +285,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param person student to be removed from their existing group
      */
     public void removePersonFromExistingGroup(Person person) {
-        Group group = groups.getGroup(person.getGroupId());
-        group.removeStudent(person.getNusnetid());
+        requireNonNull(person);
+        Set<Nusnetid> members = groupMembers.get(person.getGroupId());
+        if (members != null) {
+            members.remove(person.getNusnetid());
+        }
     }
     /**
      * Updates the group when a person's details are edited.
@@ -210,11 +310,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         if (student.getGroupId().equals(newGroupId)) {
             throw new CommandException(AddToGroupCommand.MESSAGE_SAME_GROUP_FAIL);
         }
-        // Remove from old group
-        Group oldGroup = groups.getGroup(student.getGroupId());
-        assert oldGroup != null : "Old group should exist when moving student to new group.";
-        oldGroup.removeStudent(student.getNusnetid());
-        // Add to new group
         Person updatedStudent = student.withUpdatedGroup(newGroupId);
         try {
             assert this.persons.contains(student);
@@ -225,16 +320,10 @@ public class AddressBook implements ReadOnlyAddressBook {
         } catch (DuplicatePersonException e) {
             throw new CommandException(e.getMessage());
         }
-        // If new group does not exist, create it
-        // Else, add student to existing group
-        if (!groups.contains(newGroupId)) {
-            Group newGroup = new Group(newGroupId);
-            this.addGroup(newGroup);
-            newGroup.addStudent(updatedStudent);
-        } else {
-            Group newGroup = groups.getGroup(newGroupId);
-            newGroup.addStudent(updatedStudent);
-        }
+        assert groupMembers.containsKey(student.getGroupId())
+                : "Old group should exist when moving student to new group.";
+        removePersonFromExistingGroup(student);
+        membersOf(newGroupId).add(updatedStudent.getNusnetid());
     }
 
     /**
@@ -272,6 +361,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return consultations.hasOverlappingConsultation(consultation);
     }
 
+    /**
+     * Returns the consultations overlapping the window from {@code from} (inclusive) to {@code to} (exclusive),
+     * in start time order.
+     */
+    public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return consultations.getConsultationsBetween(from, to);
+    }
+
     /**
      * Adds a consultation to the address book.
      * The consultation must not already exist in the address book.
@@ -322,7 +420,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
     @Override
     public int hashCode() {
-        return Objects.hash(getPersonList(), getConsultationList(), getGroupList());
+        return Objects.hash(getPersonList(), getConsultationList(), groups);
     }
     /**
      * Updates consultations stored in the address book when a person's nusnetid is edited.
@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+
+/**
+ * An unchanging copy of the contents of an address book, which can be read on another thread while the address book
+ * keeps changing.
+ * Taking a snapshot only copies the lists of persons and consultations and the NUSNET IDs of each group, so it does
+ * not rebuild the indexes an {@code AddressBook} keeps. The groups are put together from the copied NUSNET IDs the
+ * first time they are asked for.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Consultation> consultations;
+    private final List<GroupId> groupIds = new ArrayList<>();
+    private final List<List<Nusnetid>> groupStudentIds = new ArrayList<>();
+    private ObservableList<Group> groups;
+
+    private AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        consultations = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getConsultationList()));
+        for (Group group : addressBook.getGroupList()) {
+            groupIds.add(group.getGroupId());
+            groupStudentIds.add(new ArrayList<>(group.getStudentIds()));
+        }
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new AddressBookSnapshot(addressBook);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public List<Person> getUniquePersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Consultation> getConsultationList() {
+        return consultations;
+    }
+
+    @Override
+    public synchronized ObservableList<Group> getGroupList() {
+        if (groups == null) {
+            Map<Nusnetid, Person> roster = new HashMap<>();
+            for (Person person : persons) {
+                roster.put(person.getNusnetid(), person);
+            }
+            List<Group> snapshotGroups = new ArrayList<>(groupIds.size());
+            for (int i = 0; i < groupIds.size(); i++) {
+                snapshotGroups.add(new Group(groupIds.get(i), new LinkedHashSet<>(groupStudentIds.get(i)),
+                        roster::get));
+            }
+            groups = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(snapshotGroups));
+        }
+        return groups;
+    }
+
+    /**
+     * Throws {@code UnsupportedOperationException}, as a snapshot cannot be changed.
+     */
+    @Override
+    public void updateGroupWhenAddPerson(Person person) {
+        throw new UnsupportedOperationException("An address book snapshot cannot be changed.");
+    }
+}
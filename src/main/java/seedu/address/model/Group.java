@@ -3,21 +3,32 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
 
 /**
  * Represents a Tutorial session.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * A group only records the NUSNET IDs of its students. Once the group belongs to an {@code AddressBook}, its
+ * students are looked up in the address book's person list when needed, so edits to a person never have to be
+ * repeated on the group.
+ * Guarantees: details are present and not null, field values are validated.
  */
 public class Group {
     private final GroupId groupId;
-    private final UniquePersonList students;
+    private final Set<Nusnetid> studentIds;
+    private final Function<Nusnetid, Person> roster;
+
+    /** Students of a group outside any address book, which has no person list to look them up in. Null otherwise. */
+    private final Map<Nusnetid, Person> unattachedStudents;
 
     /**
      * Construct a group
@@ -26,7 +37,9 @@ public class Group {
     public Group(GroupId groupId) {
         requireNonNull(groupId);
         this.groupId = groupId;
-        this.students = new UniquePersonList();
+        this.studentIds = new LinkedHashSet<>();
+        this.unattachedStudents = new HashMap<>();
+        this.roster = unattachedStudents::get;
     }
 
     /**
@@ -35,15 +48,27 @@ public class Group {
      * @param students list of students in this tutorial.
      */
     public Group(GroupId groupId, List<Person> students) {
-        requireNonNull(groupId);
+        this(groupId);
         requireNonNull(students);
-        this.groupId = groupId;
-        this.students = new UniquePersonList();
         for (Person p : students) {
-            this.students.add(p);
+            addStudent(p);
         }
     }
 
+    /**
+     * Constructs a group of an address book, whose members are {@code studentIds} and are looked up through
+     * {@code roster}. {@code studentIds} is used as is, so membership changes made through either side are shared.
+     */
+    Group(GroupId groupId, Set<Nusnetid> studentIds, Function<Nusnetid, Person> roster) {
+        requireNonNull(groupId);
+        requireNonNull(studentIds);
+        requireNonNull(roster);
+        this.groupId = groupId;
+        this.studentIds = studentIds;
+        this.roster = roster;
+        this.unattachedStudents = null;
+    }
+
     /** Returns the GroupId used to identify this group. */
     public GroupId getGroupId() {
         return groupId;
@@ -58,39 +83,58 @@ public class Group {
     }
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
+     * Only a change of NUSNET ID affects the membership of the group.
      * @param target old person
      * @param editedPerson new person
      */
     public void setPerson(Person target, Person editedPerson) {
+        requireNonNull(target);
         requireNonNull(editedPerson);
-        students.setPerson(target, editedPerson);
+        if (!target.getNusnetid().equals(editedPerson.getNusnetid())) {
+            removeStudent(target.getNusnetid());
+            addStudent(editedPerson);
+        } else if (unattachedStudents != null && hasStudent(target.getNusnetid())) {
+            unattachedStudents.put(editedPerson.getNusnetid(), editedPerson);
+        }
     }
     /**
-     * Returns all persons in this tutorial.
+     * Returns all persons in this tutorial, in the order they joined.
+     * Students that can no longer be found are left out.
      * @return ArrayList of persons in this tutorial.
      */
     public ArrayList<Person> getAllPersons() {
-        return this.students.toArrayList();
+        ArrayList<Person> students = new ArrayList<>(studentIds.size());
+        for (Nusnetid studentId : studentIds) {
+            Person student = roster.apply(studentId);
+            if (student != null) {
+                students.add(student);
+            }
+        }
+        return students;
+    }
+    /**
+     * Returns the NUSNET IDs of the students in this tutorial, in the order they joined.
+     */
+    public Set<Nusnetid> getStudentIds() {
+        return Collections.unmodifiableSet(studentIds);
     }
     /**
      * adds a student to this tutorial.
      */
     public void addStudent(Person student) {
         requireNonNull(student);
-        this.students.add(student);
+        if (studentIds.add(student.getNusnetid()) && unattachedStudents != null) {
+            unattachedStudents.put(student.getNusnetid(), student);
+        }
     }
     /**
      * removes a student from this tutorial by Nusnetid.
      */
     public void removeStudent(Nusnetid nusnetid) {
         requireNonNull(nusnetid);
-        Iterator<Person> iterator = students.iterator();
-        while (iterator.hasNext()) {
-            Person person = iterator.next();
-            if (person.getNusnetid().equals(nusnetid)) {
-                iterator.remove();
-                break;
-            }
+        studentIds.remove(nusnetid);
+        if (unattachedStudents != null) {
+            unattachedStudents.remove(nusnetid);
         }
     }
     /**
@@ -101,12 +145,7 @@ public class Group {
      */
     public boolean hasStudent(Nusnetid nusnetid) {
         requireNonNull(nusnetid);
-        for (Person p : students) {
-            if (p.getNusnetid().equals(nusnetid)) {
-                return true;
-            }
-        }
-        return false;
+        return studentIds.contains(nusnetid);
     }
 
     @Override
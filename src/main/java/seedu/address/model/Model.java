@@ -1,8 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -10,6 +12,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.person.AttendanceStatus;
 import seedu.address.model.person.GroupId;
+import seedu.address.model.person.IdentityPrefixPredicate;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 
@@ -56,6 +59,16 @@ public interface Model {
      */
     void setAddressBookFilePath(Path addressBookFilePath);
 
+    /**
+     * Returns the paths of the files that storage may write to keep the address book, such as backups and journals.
+     */
+    List<Path> getDataFilePaths();
+
+    /**
+     * Sets the paths of the files that storage may write to keep the address book.
+     */
+    void setDataFilePaths(List<Path> dataFilePaths);
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
@@ -97,6 +110,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all the given persons, and updates their groups, as a single change to the person list.
+     * None of the persons may already exist in the address book or share an identity with one another.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Gets a person by their nusnetId.
      * @param nusnetId the nusnetId of the person to be retrieved
@@ -119,6 +138,15 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces every person matching {@code predicate} with the result of applying {@code update} to them, as a
+     * single change to the person list. The filter on the displayed person list is kept.
+     * {@code update} must keep the identity fields and the group of each person.
+     *
+     * @return the updated persons, in the order of the person list.
+     */
+    List<Person> updatePersons(Predicate<Person> predicate, UnaryOperator<Person> update);
+
     /**
      * Adds a homework assignment to a student or all students.
      *
@@ -169,6 +197,20 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons whose name has any of {@code keywords}
+     * as a word, ignoring case. Matching persons are looked up in the name index of the address book.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredPersonListByName(List<String> keywords);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by {@code predicate}.
+     * Matching persons are looked up in a prefix trie over the field that {@code predicate} searches.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByPrefix(IdentityPrefixPredicate predicate);
     /**
      * Marks attendance for the person with the given nusnetId for the specified week and status.
      * @param nusnetId the nusnetId of the person whose attendance is to be marked
@@ -196,6 +238,12 @@ public interface Model {
      */
     boolean hasOverlappingConsultation(Consultation consultation);
 
+    /**
+     * Returns the consultations overlapping the window from {@code from} (inclusive) to {@code to} (exclusive),
+     * in start time order.
+     */
+    List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to);
+
     /**
      * Adds the given consultation.
      * {@code consultation} must not already exist in the address book.
@@ -208,7 +256,7 @@ public interface Model {
      */
     void deleteConsultation(Consultation consultation);
 
-    /** Returns an unmodifiable view of the filtered consultation list */
+    /** Returns an unmodifiable view of the filtered consultation list, in start time order */
     ObservableList<Consultation> getFilteredConsultationList();
 
     /**
@@ -217,6 +265,14 @@ public interface Model {
      */
     void updateFilteredConsultationList(Predicate<Consultation> predicate);
 
+    /**
+     * Updates the filter of the filtered consultation list to show the consultations that overlap the window from
+     * {@code from} (inclusive) to {@code to} (exclusive). Matching consultations are looked up with
+     * {@link #getConsultationsBetween(LocalDateTime, LocalDateTime)}.
+     * @throws NullPointerException if {@code from} or {@code to} is null.
+     */
+    void updateFilteredConsultationListBetween(LocalDateTime from, LocalDateTime to);
+
     /**
      * Adds the given consultation to the person identified by the given nusnetid.
      */
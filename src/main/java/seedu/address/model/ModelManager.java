@@ -4,25 +4,24 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddHomeworkCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Consultation;
-import seedu.address.model.person.Attendance;
-import seedu.address.model.person.AttendanceSheet;
 import seedu.address.model.person.AttendanceStatus;
 import seedu.address.model.person.GroupId;
 import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.IdentityPrefixPredicate;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 
@@ -36,22 +35,20 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Consultation> filteredConsultations;
-    private final SortedList<Consultation> sortedConsultations;
+    private List<Path> dataFilePaths = List.of();
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        // The consultation list is already kept in start time order by the address book
         filteredConsultations = new FilteredList<>(this.addressBook.getConsultationList());
-        sortedConsultations = new SortedList<>(filteredConsultations);
-        // Set comparator to sort by start time
-        sortedConsultations.setComparator(Comparator.comparing(Consultation::getFrom));
     }
 
     public ModelManager() {
@@ -93,6 +90,17 @@ public class ModelManager implements Model {
         userPrefs.setAddressBookFilePath(addressBookFilePath);
     }
 
+    @Override
+    public List<Path> getDataFilePaths() {
+        return dataFilePaths;
+    }
+
+    @Override
+    public void setDataFilePaths(List<Path> dataFilePaths) {
+        requireAllNonNull(dataFilePaths);
+        this.dataFilePaths = List.copyOf(dataFilePaths);
+    }
+
     //=========== AddressBook ================================================================================
 
     @Override
@@ -137,15 +145,25 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
+    @Override
+    public List<Person> updatePersons(Predicate<Person> predicate, UnaryOperator<Person> update) {
+        requireAllNonNull(predicate, update);
+        return addressBook.updatePersons(predicate, update);
+    }
+
     /**
      * Updates the group information when a person is added.
      * @param person the person that was added
@@ -166,7 +184,6 @@ public class ModelManager implements Model {
     public void updateConsultationsForEditedPerson(Nusnetid oldNusnetid, Nusnetid newNusnetid) {
         requireAllNonNull(oldNusnetid, newNusnetid);
         this.addressBook.updateConsultationsForEditedPerson(oldNusnetid, newNusnetid);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
     /**
      * Marks attendance for a student identified by their nusnetId.
@@ -180,26 +197,8 @@ public class ModelManager implements Model {
     public Person markAttendance(Nusnetid nusnetId, int week, AttendanceStatus status) throws CommandException {
         requireAllNonNull(nusnetId, status);
         Person targetStudent = findPerson(nusnetId);
-        AttendanceSheet updatedSheet = new AttendanceSheet();
-        for (Attendance attendance : targetStudent.getAttendanceSheet().getAttendanceList()) {
-            updatedSheet.markAttendance(attendance.getWeek(), attendance.getAttendanceStatus());
-        }
-        updatedSheet.markAttendance(week, status);
-        Person updatedStudent = new Person(
-               targetStudent.getName(),
-               targetStudent.getPhone(),
-               targetStudent.getEmail(),
-               targetStudent.getNusnetid(),
-               targetStudent.getTelegram(),
-               targetStudent.getGroupId(),
-               targetStudent.getHomeworkTracker(),
-               updatedSheet,
-               targetStudent.getConsultation());
-
+        Person updatedStudent = targetStudent.withAttendance(week, status);
         setPerson(targetStudent, updatedStudent);
-        this.getGroup(targetStudent.getGroupId()).setPerson(targetStudent, updatedStudent);
-        Predicate<Person> predicate = person -> true;
-        updateFilteredPersonList(predicate);
         return updatedStudent;
     }
     /**
@@ -217,26 +216,7 @@ public class ModelManager implements Model {
         if (studentsInGroup.isEmpty()) {
             throw new CommandException("No students in the group.");
         }
-        for (Person targetStudent: studentsInGroup) {
-            AttendanceSheet updatedSheet = new AttendanceSheet();
-            for (Attendance attendance : targetStudent.getAttendanceSheet().getAttendanceList()) {
-                updatedSheet.markAttendance(attendance.getWeek(), attendance.getAttendanceStatus());
-            }
-            updatedSheet.markAttendance(week, status);
-            Person updatedStudent = new Person(
-                    targetStudent.getName(),
-                    targetStudent.getPhone(),
-                    targetStudent.getEmail(),
-                    targetStudent.getNusnetid(),
-                    targetStudent.getTelegram(),
-                    targetStudent.getGroupId(),
-                    targetStudent.getHomeworkTracker(),
-                    updatedSheet,
-                    targetStudent.getConsultation());
-
-            setPerson(targetStudent, updatedStudent);
-            targetGroup.setPerson(targetStudent, updatedStudent);
-        }
+        addressBook.updatePersons(studentsInGroup, student -> student.withAttendance(week, status));
 
         Predicate<Person> predicate = person -> person.getGroupId().equals(groupId);
         updateFilteredPersonList(predicate);
@@ -263,14 +243,11 @@ public class ModelManager implements Model {
     @Override
     public Person getPersonByNusnetIdFullList(Nusnetid nusnetId) throws CommandException {
         requireNonNull(nusnetId);
-        if (hasPerson(nusnetId)) {
-            Person target = this.addressBook.getUniquePersonList()
-                    .stream().filter(p -> p.getNusnetid().equals(nusnetId))
-                    .findFirst().orElseThrow(() -> new CommandException(MESSAGE_STUDENT_NOT_FOUND));
-            return target;
-        } else {
+        Person target = this.addressBook.getPerson(nusnetId);
+        if (target == null) {
             throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
         }
+        return target;
     }
     @Override
     public boolean hasConsultation(Consultation consultation) {
@@ -284,6 +261,12 @@ public class ModelManager implements Model {
         return addressBook.hasOverlappingConsultation(consultation);
     }
 
+    @Override
+    public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getConsultationsBetween(from, to);
+    }
+
     @Override
     public void addConsultation(Consultation consultation) {
         addressBook.addConsultation(consultation);
@@ -300,15 +283,12 @@ public class ModelManager implements Model {
     public void addConsultationToPerson(Nusnetid nusnetid, Consultation consultation) {
         requireAllNonNull(nusnetid, consultation);
         addressBook.addConsultationToPerson(nusnetid, consultation);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public Consultation deleteConsultationFromPerson(Nusnetid nusnetid) {
         requireAllNonNull(nusnetid);
-        Consultation deletedConsultation = addressBook.deleteConsultationFromPerson(nusnetid);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return deletedConsultation;
+        return addressBook.deleteConsultationFromPerson(nusnetid);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -328,6 +308,18 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListByName(List<String> keywords) {
+        requireNonNull(keywords);
+        filteredPersons.setPredicate(addressBook.nameContainsAnyOf(keywords));
+    }
+
+    @Override
+    public void updateFilteredPersonListByPrefix(IdentityPrefixPredicate predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(addressBook.matchingPrefix(predicate));
+    }
+
     @Override
     public void addHomework(Nusnetid nusnetId, int assignmentId) throws CommandException {
         List<String> errors = new ArrayList<>();
@@ -345,32 +337,17 @@ public class ModelManager implements Model {
         }
 
         if (nusnetId == null) {
-            List<Person> allStudents = addressBook.getUniquePersonList();
-            boolean allHaveHomework = true;
-
-            // Check if every student already has this homework
-            for (Person p : allStudents) {
-                if (!p.getHomeworkTracker().contains(assignmentId)) {
-                    allHaveHomework = false;
-                    break;
-                }
-            }
-
-            if (allHaveHomework) {
+            // Add homework for every student who does not have it yet
+            List<Person> updated = updatePersons(person -> !person.getHomeworkTracker().contains(assignmentId),
+                    person -> person.withAddedHomework(assignmentId));
+            if (updated.isEmpty()) {
                 throw new CommandException(
                         String.format("All students already have homework %d.", assignmentId)
                 );
             }
-
-            // Otherwise, add homework for everyone (even those who already have it)
-            for (Person p : allStudents) {
-                setPerson(p, p.withAddedHomework(assignmentId));
-            }
-
             return;
         }
 
-
         Person target;
         try {
             target = getPersonByNusnetIdFullList(nusnetId); // may throw AssertionError currently
@@ -390,21 +367,11 @@ public class ModelManager implements Model {
     public void deleteHomework(Nusnetid nusnetId, int assignmentId) throws CommandException {
         if (nusnetId == null) {
             // delete homework for all students
-            boolean allDontHave = true;
-            for (Person p : addressBook.getUniquePersonList()) {
-                if (p.getHomeworkTracker().contains(assignmentId)) {
-                    allDontHave = false;
-                    break;
-                }
-            }
-            if (allDontHave) {
+            List<Person> updated = updatePersons(person -> person.getHomeworkTracker().contains(assignmentId),
+                    person -> person.withDeletedHomework(assignmentId));
+            if (updated.isEmpty()) {
                 throw new CommandException(String.format("No student has homework %d.", assignmentId));
             }
-            for (Person p : addressBook.getUniquePersonList()) {
-                if (p.getHomeworkTracker().contains(assignmentId)) {
-                    setPerson(p, p.withDeletedHomework(assignmentId));
-                }
-            }
             return;
         }
 
@@ -452,7 +419,6 @@ public class ModelManager implements Model {
 
         Person updatedPerson = target.withUpdatedHomework(assignmentId, status);
         setPerson(target, updatedPerson);
-        this.getGroup(target.getGroupId()).setPerson(target, updatedPerson);
     }
 
     /**
@@ -477,7 +443,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Consultation> getFilteredConsultationList() {
-        return sortedConsultations;
+        return filteredConsultations;
     }
 
     @Override
@@ -486,6 +452,12 @@ public class ModelManager implements Model {
         filteredConsultations.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredConsultationListBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        filteredConsultations.setPredicate(addressBook.consultationsOverlapping(from, to));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    boolean isAddressBookFilePrettyPrinted();
+
+    boolean isAddressBookJournaled();
+
+    boolean isAddressBookFileBinary();
+
 }
@@ -2,9 +2,10 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,11 +17,15 @@ import seedu.address.model.person.GroupId;
  * As such, adding and updating of groups uses Group#isSameGroup(Group) for equality
  * to ensure that the group being added or updated is unique in terms of identity
  * in the UniqueGroupList. However, the removal of a group uses Group#equals(Object
+ *
+ * Groups are also kept in a {@code LinkedHashMap} keyed on their {@code GroupId}, in the same order as the
+ * observable list, so lookups by id take constant time.
  */
 public class UniqueGroupList implements Iterable<Group> {
     private final ObservableList<Group> internalList = FXCollections.observableArrayList();
     private final ObservableList<Group> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<GroupId, Group> groupsById = new LinkedHashMap<>();
     /**
      * Returns true if the list contains an equivalent group as the given argument.
      * @param toCheck group to check
@@ -28,7 +33,7 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public boolean contains(GroupId toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(g -> g.isSameGroup(toCheck));
+        return groupsById.containsKey(toCheck);
     }
     /**
      * Adds a group to the list.
@@ -39,6 +44,7 @@ public class UniqueGroupList implements Iterable<Group> {
         if (contains(toAdd.getGroupId())) {
             throw new IllegalArgumentException("Duplicate group");
         }
+        groupsById.put(toAdd.getGroupId(), toAdd);
         internalList.add(toAdd);
     }
     /**
@@ -48,12 +54,7 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public Group getGroup(GroupId groupId) {
         requireNonNull(groupId);
-        for (Group g : internalList) {
-            if (g.getGroupId().equals(groupId)) {
-                return g;
-            }
-        }
-        return null;
+        return groupsById.get(groupId);
     }
     /**
      * Sets the groups to the groups in the given list.
@@ -61,15 +62,19 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void setGroups(List<Group> groups) {
         requireNonNull(groups);
-        long distinctCount = groups.stream().distinct().count();
-        if (distinctCount != groups.size()) {
-            throw new IllegalArgumentException("Groups list contains duplicate groups");
+        Map<GroupId, Group> replacement = new LinkedHashMap<>();
+        for (Group g : groups) {
+            if (replacement.putIfAbsent(g.getGroupId(), g) != null) {
+                throw new IllegalArgumentException("Groups list contains duplicate groups");
+            }
         }
-        internalList.setAll(groups);
+        groupsById.clear();
+        groupsById.putAll(replacement);
+        internalList.setAll(replacement.values());
     }
     @Override
     public Iterator<Group> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
@@ -87,13 +92,13 @@ public class UniqueGroupList implements Iterable<Group> {
             return false;
         }
         UniqueGroupList otherList = (UniqueGroupList) other;
-        return new HashSet<>(this.internalList)
-                .equals(new HashSet<>(otherList.internalList));
+        // Groups are equal exactly when their ids are, regardless of order
+        return groupsById.keySet().equals(otherList.groupsById.keySet());
     }
 
     @Override
     public int hashCode() {
-        return new HashSet<>(internalList).hashCode();
+        return groupsById.keySet().hashCode();
     }
     @Override
     public String toString() {
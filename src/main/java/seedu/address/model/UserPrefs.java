@@ -15,6 +15,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean addressBookFilePrettyPrinted = false;
+    private boolean addressBookJournaled = false;
+    private boolean addressBookFileBinary = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFilePrettyPrinted(newUserPrefs.isAddressBookFilePrettyPrinted());
+        setAddressBookJournaled(newUserPrefs.isAddressBookJournaled());
+        setAddressBookFileBinary(newUserPrefs.isAddressBookFileBinary());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isAddressBookFilePrettyPrinted() {
+        return addressBookFilePrettyPrinted;
+    }
+
+    public void setAddressBookFilePrettyPrinted(boolean addressBookFilePrettyPrinted) {
+        this.addressBookFilePrettyPrinted = addressBookFilePrettyPrinted;
+    }
+
+    public boolean isAddressBookJournaled() {
+        return addressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean addressBookJournaled) {
+        this.addressBookJournaled = addressBookJournaled;
+    }
+
+    public boolean isAddressBookFileBinary() {
+        return addressBookFileBinary;
+    }
+
+    public void setAddressBookFileBinary(boolean addressBookFileBinary) {
+        this.addressBookFileBinary = addressBookFileBinary;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +99,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFilePrettyPrinted == otherUserPrefs.addressBookFilePrettyPrinted
+                && addressBookJournaled == otherUserPrefs.addressBookJournaled
+                && addressBookFileBinary == otherUserPrefs.addressBookFileBinary;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFilePrettyPrinted, addressBookJournaled,
+                addressBookFileBinary);
     }
 
     @Override
@@ -82,6 +116,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file pretty printed : " + addressBookFilePrettyPrinted);
+        sb.append("\nLocal data file journaled : " + addressBookJournaled);
+        sb.append("\nLocal data file binary : " + addressBookFileBinary);
         return sb.toString();
     }
 
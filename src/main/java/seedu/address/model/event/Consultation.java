@@ -16,10 +16,17 @@ import seedu.address.model.person.Nusnetid;
  */
 public class Consultation {
     public static final String MESSAGE_CONSTRAINTS = "Consultation end time must be after start time";
+
+    private static final DateTimeFormatter STORAGE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd HHmm");
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private final Nusnetid nusnetid;
     private final LocalDateTime from;
     private final LocalDateTime to;
 
+    /** Built when the consultation is first shown, as it is shown again each time its card is drawn. */
+    private String consultationTime;
+
     /**
      * Every field must be present and not null.
      */
@@ -44,13 +51,11 @@ public class Consultation {
     }
 
     public String getFromInString() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd HHmm");
-        return from.format(formatter);
+        return from.format(STORAGE_FORMATTER);
     }
 
     public String getToInString() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd HHmm");
-        return to.format(formatter);
+        return to.format(STORAGE_FORMATTER);
     }
 
     /**
@@ -86,13 +91,11 @@ public class Consultation {
      * "Consultation: yyyy-MM-dd HH:mm to yyyy-MM-dd HH:mm".
      */
     public String showConsultationTime() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-        final StringBuilder builder = new StringBuilder();
-        builder.append("Consultation: ")
-                .append(from.format(formatter))
-                .append(" to ")
-                .append(to.format(formatter));
-        return builder.toString();
+        if (consultationTime == null) {
+            consultationTime = "Consultation: " + from.format(DISPLAY_FORMATTER)
+                    + " to " + to.format(DISPLAY_FORMATTER);
+        }
+        return consultationTime;
     }
 
     /**
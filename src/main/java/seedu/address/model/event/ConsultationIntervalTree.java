@@ -0,0 +1,133 @@
+package seedu.address.model.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A search tree of consultations in time order in which every node also keeps the latest end time in its subtree,
+ * so that finding the consultations that overlap a window skips every subtree that ends before the window opens.
+ * Adding and removing a consultation takes O(log n) expected time and updates the latest end times along the way,
+ * and finding the k consultations that overlap a window takes O((k + 1) log n) expected time.
+ *
+ * The tree is a treap: each node is given a random priority, and parents have higher priorities than their children,
+ * which keeps the tree balanced on average. No two consultations in the tree may be equal in time order.
+ */
+class ConsultationIntervalTree {
+
+    private final Comparator<Consultation> order;
+    private final Random random = new Random();
+    private Node root;
+
+    ConsultationIntervalTree(Comparator<Consultation> order) {
+        this.order = order;
+    }
+
+    void add(Consultation consultation) {
+        Node[] parts = split(root, consultation, false);
+        root = merge(merge(parts[0], new Node(consultation, random.nextInt())), parts[1]);
+    }
+
+    void remove(Consultation consultation) {
+        Node[] beforeAndRest = split(root, consultation, false);
+        Node[] sameAndAfter = split(beforeAndRest[1], consultation, true);
+        root = merge(beforeAndRest[0], sameAndAfter[1]);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the consultations that start before {@code to} and end after {@code from}, in time order.
+     */
+    List<Consultation> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        List<Consultation> overlapping = new ArrayList<>();
+        collectOverlapping(root, from, to, overlapping);
+        return overlapping;
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to,
+            List<Consultation> overlapping) {
+        if (node == null || !node.latestEnd.isAfter(from)) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, overlapping);
+        // This consultation and all those after it start too late to overlap the window
+        if (!node.consultation.getFrom().isBefore(to)) {
+            return;
+        }
+        if (node.consultation.getTo().isAfter(from)) {
+            overlapping.add(node.consultation);
+        }
+        collectOverlapping(node.right, from, to, overlapping);
+    }
+
+    /**
+     * Splits the tree under {@code node} into the consultations before {@code key}, together with {@code key} itself
+     * if {@code isKeyBefore}, and the rest.
+     */
+    private Node[] split(Node node, Consultation key, boolean isKeyBefore) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int comparison = order.compare(node.consultation, key);
+        if (comparison < 0 || (isKeyBefore && comparison == 0)) {
+            Node[] parts = split(node.right, key, isKeyBefore);
+            node.right = parts[0];
+            node.updateLatestEnd();
+            return new Node[] {node, parts[1]};
+        }
+        Node[] parts = split(node.left, key, isKeyBefore);
+        node.left = parts[1];
+        node.updateLatestEnd();
+        return new Node[] {parts[0], node};
+    }
+
+    /**
+     * Joins two trees, where every consultation under {@code before} comes before every consultation under
+     * {@code after}.
+     */
+    private static Node merge(Node before, Node after) {
+        if (before == null) {
+            return after;
+        }
+        if (after == null) {
+            return before;
+        }
+        if (before.priority > after.priority) {
+            before.right = merge(before.right, after);
+            before.updateLatestEnd();
+            return before;
+        }
+        after.left = merge(before, after.left);
+        after.updateLatestEnd();
+        return after;
+    }
+
+    private static class Node {
+        private final Consultation consultation;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private LocalDateTime latestEnd;
+
+        Node(Consultation consultation, int priority) {
+            this.consultation = consultation;
+            this.priority = priority;
+            this.latestEnd = consultation.getTo();
+        }
+
+        void updateLatestEnd() {
+            latestEnd = consultation.getTo();
+            if (left != null && left.latestEnd.isAfter(latestEnd)) {
+                latestEnd = left.latestEnd;
+            }
+            if (right != null && right.latestEnd.isAfter(latestEnd)) {
+                latestEnd = right.latestEnd;
+            }
+        }
+    }
+}
@@ -3,8 +3,19 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,22 +30,36 @@ import seedu.address.model.event.exceptions.DuplicateConsultationException;
  * in the UniqueConsultationList. However, the removal of a person uses Consultation#equals(Object) so
  * as to ensure that the consultation with exactly the same fields will be removed.
  *
+ * Consultations are kept in start time order, both in the observable list and in a {@code TreeMap} keyed on the
+ * start time. They are also kept in a {@code ConsultationIntervalTree}, which is updated in O(log n) time on every
+ * change, so overlap checks and window queries take O((k + 1) log n) time for k matches, however long the
+ * consultations are.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Consultation#isSameConsultation(Consultation)
  */
 public class UniqueConsultationList implements Iterable<Consultation> {
 
+    /** Orders consultations by start time, then by end time. */
+    private static final Comparator<Consultation> TIME_ORDER =
+            Comparator.comparing(Consultation::getFrom).thenComparing(Consultation::getTo);
+
     private final ObservableList<Consultation> internalList = FXCollections.observableArrayList();
     private final ObservableList<Consultation> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final NavigableMap<LocalDateTime, List<Consultation>> byStartTime = new TreeMap<>();
+
+    private final ConsultationIntervalTree byInterval = new ConsultationIntervalTree(TIME_ORDER);
+    private int modificationCount;
+
     /**
      * Returns true if the list contains an equivalent consultation as the given argument.
      */
     public boolean contains(Consultation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameConsultation);
+        return findSameConsultation(toCheck) != null;
     }
 
     /**
@@ -42,7 +67,29 @@ public class UniqueConsultationList implements Iterable<Consultation> {
      */
     public boolean hasOverlappingConsultation(Consultation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isOverlappingConsultation);
+        return !getConsultationsBetween(toCheck.getFrom(), toCheck.getTo()).isEmpty();
+    }
+
+    /**
+     * Returns the consultations that overlap the window from {@code from} (inclusive) to {@code to} (exclusive),
+     * in start time order.
+     */
+    public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (!to.isAfter(from)) {
+            return new ArrayList<>();
+        }
+        return byInterval.findOverlapping(from, to);
+    }
+
+    /**
+     * Returns a predicate that accepts the consultations in this list that overlap the window from {@code from}
+     * (inclusive) to {@code to} (exclusive). The predicate finds them with {@link #getConsultationsBetween} and
+     * finds them again after the list changes.
+     */
+    public Predicate<Consultation> overlapping(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return new WindowPredicate(from, to);
     }
 
     /**
@@ -54,7 +101,8 @@ public class UniqueConsultationList implements Iterable<Consultation> {
         if (contains(toAdd)) {
             throw new DuplicateConsultationException();
         }
-        internalList.add(toAdd);
+        addToIndexes(toAdd);
+        internalList.add(insertionPoint(toAdd), toAdd);
     }
 
     /**
@@ -65,8 +113,7 @@ public class UniqueConsultationList implements Iterable<Consultation> {
     public void setConsultation(Consultation target, Consultation editedConsultation) {
         requireAllNonNull(target, editedConsultation);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(findSameConsultation(target))) {
             throw new ConsultationNotFoundException();
         }
 
@@ -74,7 +121,14 @@ public class UniqueConsultationList implements Iterable<Consultation> {
             throw new DuplicateConsultationException();
         }
 
-        internalList.set(index, editedConsultation);
+        removeFromIndexes(target);
+        addToIndexes(editedConsultation);
+        if (target.isSameConsultation(editedConsultation)) {
+            internalList.set(positionOf(target), editedConsultation);
+        } else {
+            internalList.remove(positionOf(target));
+            internalList.add(insertionPoint(editedConsultation), editedConsultation);
+        }
     }
 
     /**
@@ -83,13 +137,16 @@ public class UniqueConsultationList implements Iterable<Consultation> {
      */
     public void remove(Consultation toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(findSameConsultation(toRemove))) {
             throw new ConsultationNotFoundException();
         }
+        removeFromIndexes(toRemove);
+        internalList.remove(positionOf(toRemove));
     }
 
     public void setConsultations(UniqueConsultationList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -99,14 +156,15 @@ public class UniqueConsultationList implements Iterable<Consultation> {
      */
     public void setConsultations(List<Consultation> consultations) {
         requireAllNonNull(consultations);
-        if (!consultationsAreUnique(consultations)) {
-            throw new DuplicateConsultationException();
-        }
-        internalList.setAll(consultations);
+        requireUniqueTimings(consultations);
+        List<Consultation> sorted = new ArrayList<>(consultations);
+        sorted.sort(TIME_ORDER);
+        rebuildIndexes(sorted);
+        internalList.setAll(sorted);
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code ObservableList}, in start time order.
      */
     public ObservableList<Consultation> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -114,7 +172,7 @@ public class UniqueConsultationList implements Iterable<Consultation> {
 
     @Override
     public Iterator<Consultation> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -144,16 +202,94 @@ public class UniqueConsultationList implements Iterable<Consultation> {
     }
 
     /**
-     * Returns true if {@code consultations} contains only unique consultations.
+     * Returns the consultation in the list with the same start and end time as {@code toCheck}, or null if none.
+     */
+    private Consultation findSameConsultation(Consultation toCheck) {
+        List<Consultation> startingTogether = byStartTime.get(toCheck.getFrom());
+        if (startingTogether == null) {
+            return null;
+        }
+        for (Consultation consultation : startingTogether) {
+            if (consultation.isSameConsultation(toCheck)) {
+                return consultation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the position of {@code consultation}, which must be in the list.
      */
-    private boolean consultationsAreUnique(List<Consultation> consultations) {
-        for (int i = 0; i < consultations.size() - 1; i++) {
-            for (int j = i + 1; j < consultations.size(); j++) {
-                if (consultations.get(i).isSameConsultation(consultations.get(j))) {
-                    return false;
-                }
+    private int positionOf(Consultation consultation) {
+        return Collections.binarySearch(internalList, consultation, TIME_ORDER);
+    }
+
+    /**
+     * Returns the position at which {@code consultation}, which must not be in the list, keeps the list in order.
+     */
+    private int insertionPoint(Consultation consultation) {
+        return -(Collections.binarySearch(internalList, consultation, TIME_ORDER) + 1);
+    }
+
+    private void addToIndexes(Consultation consultation) {
+        byStartTime.computeIfAbsent(consultation.getFrom(), unused -> new ArrayList<>()).add(consultation);
+        byInterval.add(consultation);
+        modificationCount++;
+    }
+
+    private void removeFromIndexes(Consultation consultation) {
+        List<Consultation> startingTogether = byStartTime.get(consultation.getFrom());
+        startingTogether.remove(consultation);
+        if (startingTogether.isEmpty()) {
+            byStartTime.remove(consultation.getFrom());
+        }
+        byInterval.remove(consultation);
+        modificationCount++;
+    }
+
+    private void rebuildIndexes(List<Consultation> consultations) {
+        byStartTime.clear();
+        byInterval.clear();
+        modificationCount++;
+        for (Consultation consultation : consultations) {
+            addToIndexes(consultation);
+        }
+    }
+
+    /**
+     * Checks in a single pass that no two consultations in {@code consultations} have the same start and end time.
+     *
+     * @throws DuplicateConsultationException naming the first colliding pair, if any.
+     */
+    private static void requireUniqueTimings(List<Consultation> consultations) {
+        Map<List<LocalDateTime>, Consultation> seen = new HashMap<>();
+        for (Consultation consultation : consultations) {
+            List<LocalDateTime> timing = List.of(consultation.getFrom(), consultation.getTo());
+            Consultation earlier = seen.putIfAbsent(timing, consultation);
+            if (earlier != null) {
+                throw new DuplicateConsultationException(earlier, consultation);
+            }
+        }
+    }
+
+    private class WindowPredicate implements Predicate<Consultation> {
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private Set<Consultation> matches;
+        private int matchesModificationCount;
+
+        WindowPredicate(LocalDateTime from, LocalDateTime to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean test(Consultation consultation) {
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = new HashSet<>(getConsultationsBetween(from, to));
+                matchesModificationCount = modificationCount;
             }
+            return matches.contains(consultation);
         }
-        return true;
     }
 }
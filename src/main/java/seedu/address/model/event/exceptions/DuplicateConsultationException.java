@@ -1,5 +1,7 @@
 package seedu.address.model.event.exceptions;
 
+import seedu.address.model.event.Consultation;
+
 /**
  * Signals that the operation will result in duplicate Consultations
  * (Consultations are considered duplicates if they have the same start and end time).
@@ -8,4 +10,11 @@ public class DuplicateConsultationException extends RuntimeException {
     public DuplicateConsultationException() {
         super("Operation would result in duplicate consultations");
     }
+
+    /**
+     * Creates an exception that names the two consultations found to have the same start and end time.
+     */
+    public DuplicateConsultationException(Consultation first, Consultation second) {
+        super(String.format("Operation would result in duplicate consultations: %s and %s", first, second));
+    }
 }
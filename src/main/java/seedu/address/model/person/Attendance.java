@@ -7,6 +7,9 @@ import static java.util.Objects.requireNonNull;
  */
 public class Attendance {
 
+    /** Every possible attendance record, indexed by week minus the first week and then by status. */
+    private static final Attendance[][] CANONICAL = createAll();
+
     private final int week;
     private final AttendanceStatus attendanceStatus;
 
@@ -30,6 +33,31 @@ public class Attendance {
         this.attendanceStatus = attendanceStatus;
     }
 
+    /**
+     * Returns the shared {@code Attendance} record for the specified week and status.
+     *
+     * @throws IllegalArgumentException if {@code week} is not between 2 and 13
+     */
+    public static Attendance of(int week, AttendanceStatus attendanceStatus) {
+        requireNonNull(attendanceStatus);
+        if (week < AttendanceSheet.FIRST_WEEK || week > AttendanceSheet.LAST_WEEK) {
+            throw new IllegalArgumentException("Week must be between 2 and 13.");
+        }
+        return CANONICAL[week - AttendanceSheet.FIRST_WEEK][attendanceStatus.ordinal()];
+    }
+
+    private static Attendance[][] createAll() {
+        AttendanceStatus[] statuses = AttendanceStatus.values();
+        int weeks = AttendanceSheet.LAST_WEEK - AttendanceSheet.FIRST_WEEK + 1;
+        Attendance[][] all = new Attendance[weeks][statuses.length];
+        for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+            for (AttendanceStatus status : statuses) {
+                all[week - AttendanceSheet.FIRST_WEEK][status.ordinal()] = new Attendance(week, status);
+            }
+        }
+        return all;
+    }
+
     public int getWeek() {
         return week;
     }
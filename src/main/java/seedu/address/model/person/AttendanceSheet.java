@@ -1,40 +1,166 @@
 package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
- * Represents an attendance sheet for a class.
- * It contains a list of Attendance records for each student.
+ * Represents the attendance sheet of a student for the weeks of a semester.
+ * Guarantees: immutable; marking attendance returns a new sheet.
+ *
+ * The status of each week takes two bits of a single {@code long}, so looking up or marking a week takes constant
+ * time, copying a sheet copies a single value, and the weeks with a given status are counted with a few bit
+ * operations.
  */
 public class AttendanceSheet {
-    private final ArrayList<Attendance> attendanceList;
+
+    public static final int FIRST_WEEK = 2;
+    public static final int LAST_WEEK = 13;
+
+    private static final int BITS_PER_WEEK = 2;
+    private static final long WEEK_MASK = 0b11;
+    /** The low bit of every week. */
+    private static final long LOW_BITS = 0x555555L;
+    private static final long VALID_BITS = (1L << ((LAST_WEEK - FIRST_WEEK + 1) * BITS_PER_WEEK)) - 1;
+
+    private static final AttendanceStatus[] STATUSES = AttendanceStatus.values();
+    /** Every possible attendance record, so that looking up a week does not create one. */
+    private static final Optional<Attendance>[][] RECORDS = createRecords();
+
+    /** Status codes of all weeks: 0 if the week is not marked, otherwise the status's ordinal plus one. */
+    private final long packed;
+
+    /**
+     * Constructs an empty {@code AttendanceSheet}.
+     */
     public AttendanceSheet() {
-        this.attendanceList = new ArrayList<>();
+        this(0);
     }
-    public ArrayList<Attendance> getAttendanceList() {
-        return attendanceList;
+
+    private AttendanceSheet(long packed) {
+        this.packed = packed;
     }
+
     /**
-     * Marks the attendance for a specific week.
+     * Returns an {@code AttendanceSheet} with the given status codes, as returned by {@link #toPacked()}.
+     *
+     * @throws IllegalArgumentException if {@code packed} is not a valid set of status codes
+     */
+    public static AttendanceSheet fromPacked(long packed) {
+        if ((packed & ~VALID_BITS) != 0) {
+            throw new IllegalArgumentException("Attendance is only recorded for weeks 2 to 13.");
+        }
+        return new AttendanceSheet(packed);
+    }
+
+    /**
+     * Returns the status codes of all weeks, two bits per week starting from week 2 in the lowest bits.
+     * A code is 0 if the week is not marked, and otherwise the {@link AttendanceStatus#ordinal()} plus one.
+     */
+    public long toPacked() {
+        return packed;
+    }
+
+    /**
+     * Returns the attendance records of the marked weeks, in order of week.
+     */
+    public List<Attendance> getAttendanceList() {
+        List<Attendance> attendanceList = new ArrayList<>();
+        for (int week = FIRST_WEEK; week <= LAST_WEEK; week++) {
+            getAttendanceForWeek(week).ifPresent(attendanceList::add);
+        }
+        return Collections.unmodifiableList(attendanceList);
+    }
+
+    /**
+     * Returns a new sheet with the attendance for a specific week marked.
      *
      * @param week   the week number (2 to 13)
      * @param status the attendance status ("Present", "Absent", or "Excused")
-     * @throws IllegalArgumentException if {@code week} is not between 2 and 13,
-     *                                  or {@code status} is invalid
+     * @throws IllegalArgumentException if {@code week} is not between 2 and 13
+     */
+    public AttendanceSheet markAttendance(int week, AttendanceStatus status) {
+        requireNonNull(status);
+        checkWeek(week);
+        int shift = shiftOf(week);
+        long updated = (packed & ~(WEEK_MASK << shift)) | ((long) (status.ordinal() + 1) << shift);
+        return updated == packed ? this : new AttendanceSheet(updated);
+    }
+
+    /**
+     * Returns the attendance recorded for a specific week, if the week is marked.
+     */
+    public Optional<Attendance> getAttendanceForWeek(int week) {
+        if (week < FIRST_WEEK || week > LAST_WEEK) {
+            return Optional.empty();
+        }
+        return RECORDS[week - FIRST_WEEK][(int) ((packed >>> shiftOf(week)) & WEEK_MASK)];
+    }
+
+    /**
+     * Returns the number of weeks marked with {@code status}.
      */
-    public void markAttendance(int week, AttendanceStatus status) {
-        Attendance attendance = new Attendance(week, status);
-        for (int i = 0; i < attendanceList.size(); i++) {
-            if (attendanceList.get(i).getWeek() == week) {
-                attendanceList.set(i, attendance);
-                return;
+    public int count(AttendanceStatus status) {
+        requireNonNull(status);
+        long low = packed & LOW_BITS;
+        long high = (packed >>> 1) & LOW_BITS;
+        // Present, absent and excused are coded 01, 10 and 11
+        switch (status) {
+        case PRESENT:
+            return Long.bitCount(low & ~high);
+        case ABSENT:
+            return Long.bitCount(high & ~low);
+        default:
+            return Long.bitCount(low & high);
+        }
+    }
+
+    private static int shiftOf(int week) {
+        return (week - FIRST_WEEK) * BITS_PER_WEEK;
+    }
+
+    private static void checkWeek(int week) {
+        if (week < FIRST_WEEK || week > LAST_WEEK) {
+            throw new IllegalArgumentException("Week must be between 2 and 13.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<Attendance>[][] createRecords() {
+        Optional<Attendance>[][] records = new Optional[LAST_WEEK - FIRST_WEEK + 1][STATUSES.length + 1];
+        for (int week = FIRST_WEEK; week <= LAST_WEEK; week++) {
+            records[week - FIRST_WEEK][0] = Optional.empty();
+            for (AttendanceStatus status : STATUSES) {
+                records[week - FIRST_WEEK][status.ordinal() + 1] = Optional.of(Attendance.of(week, status));
             }
         }
-        attendanceList.add(attendance);
+        return records;
     }
-    public Optional<Attendance> getAttendanceForWeek(int week) {
-        return attendanceList.stream()
-                .filter(attendance -> attendance.getWeek() == week)
-                .findFirst();
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceSheet)) {
+            return false;
+        }
+
+        return packed == ((AttendanceSheet) other).packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    @Override
+    public String toString() {
+        return getAttendanceList().toString();
     }
 }
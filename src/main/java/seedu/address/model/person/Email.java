@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -22,6 +25,7 @@ public class Email {
             + ALPHANUMERIC_NO_UNDERSCORE + ")*";
     // only allow domain to be exactly u.nus.edu
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@u\\.nus\\.edu$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -36,11 +40,23 @@ public class Email {
         value = email;
     }
 
+    /**
+     * Returns the {@code Email} for {@code email}, or an empty {@code Optional} if it is not a valid email.
+     */
+    public static Optional<Email> parse(String email) {
+        requireNonNull(email);
+        try {
+            return Optional.of(new Email(email));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
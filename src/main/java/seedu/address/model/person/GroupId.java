@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a student's group identifier in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidGroupId(String)}
@@ -13,6 +17,9 @@ public class GroupId {
             "Group IDs should start with T or B (case-insensitive) and be followed by exactly 2 digits";
     public static final String VALIDATION_REGEX = "[TtBb]\\d{2}";
 
+    /** Shares one instance per group among the many students in it. */
+    private static final Interner<GroupId> INTERNER = new Interner<>();
+
     public final String value;
 
     /**
@@ -23,15 +30,32 @@ public class GroupId {
     public GroupId(String groupId) {
         requireNonNull(groupId);
         checkArgument(isValidGroupId(groupId), MESSAGE_CONSTRAINTS);
-        char prefix = Character.toUpperCase(groupId.charAt(0));
-        value = prefix + groupId.substring(1);
+        value = normalize(groupId);
     }
 
     /**
-     * Returns true if a given string is a valid group id.
+     * Returns the {@code GroupId} for {@code groupId}, or an empty {@code Optional} if it is not a valid group id.
+     * Equal group ids returned by this method are the same instance.
+     */
+    public static Optional<GroupId> parse(String groupId) {
+        requireNonNull(groupId);
+        try {
+            return Optional.of(INTERNER.intern(new GroupId(groupId)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if a given string is a valid group id, as described by {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidGroupId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != 3) {
+            return false;
+        }
+        char prefix = test.charAt(0);
+        return (prefix == 'T' || prefix == 't' || prefix == 'B' || prefix == 'b')
+                && isDigit(test.charAt(1)) && isDigit(test.charAt(2));
     }
     /**
      * Check if the given group id is valid.
@@ -40,7 +64,16 @@ public class GroupId {
      */
     public static boolean isValidGroupId(GroupId test) {
         requireNonNull(test);
-        return test.value.matches(VALIDATION_REGEX);
+        return isValidGroupId(test.value);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static String normalize(String groupId) {
+        char prefix = groupId.charAt(0);
+        return Character.isUpperCase(prefix) ? groupId : Character.toUpperCase(prefix) + groupId.substring(1);
     }
     @Override
     public String toString() {
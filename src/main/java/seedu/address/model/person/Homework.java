@@ -13,12 +13,16 @@ import static java.util.Objects.requireNonNull;
  * Assignment IDs are integers from 1 to 13.
  */
 public class Homework {
-    public static final String STATUS_COMPLETE = "complete";
-    public static final String STATUS_INCOMPLETE = "incomplete";
-    public static final String STATUS_LATE = "late";
+    public static final String STATUS_COMPLETE = HomeworkStatus.COMPLETE.getStatus();
+    public static final String STATUS_INCOMPLETE = HomeworkStatus.INCOMPLETE.getStatus();
+    public static final String STATUS_LATE = HomeworkStatus.LATE.getStatus();
+    public static final String MESSAGE_INVALID_STATUS = "Please enter complete/incomplete/late only.";
+
+    /** Every possible homework, indexed by assignment ID minus one and then by status. */
+    private static final Homework[][] CANONICAL = createAll();
 
     private final int id;
-    private final String status;
+    private final HomeworkStatus status;
 
     /**
      * Constructs a {@code Homework} object with the specified ID and status.
@@ -30,18 +34,54 @@ public class Homework {
      *                                  or {@code status} is invalid
      */
     public Homework(int id, String status) {
+        this(id, toHomeworkStatus(status));
+    }
+
+    private Homework(int id, HomeworkStatus status) {
         requireNonNull(status);
         // homework id is form 1 to 13 (assume only 13 homeworks)
         if (id < 1 || id > 13) {
             throw new IllegalArgumentException("Assignment ID must be between 1 and 13.");
         }
-        if (!isValidStatus(status)) {
-            throw new IllegalArgumentException("Please enter complete/incomplete/late only.");
-        }
         this.id = id;
         this.status = status;
     }
 
+    /**
+     * Returns the shared {@code Homework} object with the specified ID and status.
+     *
+     * @param id the assignment ID (1 to 13)
+     * @param status the homework status
+     * @throws NullPointerException if {@code status} is null
+     * @throws IllegalArgumentException if {@code id} is not between 1 and 13
+     */
+    public static Homework of(int id, HomeworkStatus status) {
+        requireNonNull(status);
+        if (id < 1 || id > CANONICAL.length) {
+            throw new IllegalArgumentException("Assignment ID must be between 1 and 13.");
+        }
+        return CANONICAL[id - 1][status.ordinal()];
+    }
+
+    private static Homework[][] createAll() {
+        HomeworkStatus[] statuses = HomeworkStatus.values();
+        Homework[][] all = new Homework[HomeworkTracker.MAX_ASSIGNMENTS][statuses.length];
+        for (int id = 1; id <= all.length; id++) {
+            for (HomeworkStatus status : statuses) {
+                all[id - 1][status.ordinal()] = new Homework(id, status);
+            }
+        }
+        return all;
+    }
+
+    private static HomeworkStatus toHomeworkStatus(String status) {
+        requireNonNull(status);
+        if (!isValidStatus(status)) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_STATUS);
+        }
+        return HomeworkStatus.fromString(status);
+    }
+
     public int getId() {
         return id;
     }
@@ -52,17 +92,21 @@ public class Homework {
      * @return the homework status: complete, incomplete, late
      */
     public String getStatus() {
+        return status.getStatus();
+    }
+
+    public HomeworkStatus getHomeworkStatus() {
         return status;
     }
 
     /**
-     * Returns a new {@code Homework} object with the same ID but an updated status.
+     * Returns the {@code Homework} object with the same ID but an updated status.
      *
      * @param newStatus the new status for the assignment
-     * @return a new {@code Homework} instance with updated status
+     * @return the shared {@code Homework} instance with updated status
      */
     public Homework withStatus(String newStatus) {
-        return new Homework(this.id, newStatus);
+        return of(this.id, toHomeworkStatus(newStatus));
     }
 
     /**
@@ -72,14 +116,17 @@ public class Homework {
      * @return {@code true} if the status is one of "complete", "incomplete", or "late"; {@code false} otherwise
      */
     public static boolean isValidStatus(String status) {
-        return status.equals(STATUS_COMPLETE)
-                || status.equals(STATUS_INCOMPLETE)
-                || status.equals(STATUS_LATE);
+        for (HomeworkStatus homeworkStatus : HomeworkStatus.values()) {
+            if (homeworkStatus.getStatus().equals(status)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public String toString() {
-        return String.format("Assignment %d: %s", id, status);
+        return String.format("Assignment %d: %s", id, status.getStatus());
     }
 
     @Override
@@ -91,11 +138,11 @@ public class Homework {
             return false;
         }
         Homework o = (Homework) other;
-        return id == o.id && status.equals(o.status);
+        return id == o.id && status == o.status;
     }
 
     @Override
     public int hashCode() {
-        return id * 31 + status.hashCode();
+        return id * 31 + status.ordinal();
     }
 }
@@ -0,0 +1,37 @@
+package seedu.address.model.person;
+
+/**
+ * Represents the completion status of a homework assignment.
+ * It can be either "incomplete", "complete", or "late".
+ */
+public enum HomeworkStatus {
+    INCOMPLETE("incomplete"),
+    COMPLETE("complete"),
+    LATE("late");
+
+    private final String status;
+
+    HomeworkStatus(String status) {
+        this.status = status;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Converts a string to the corresponding HomeworkStatus enum.
+     *
+     * @param status the homework status as a string, in any case
+     * @return the corresponding HomeworkStatus enum
+     * @throws IllegalArgumentException if the status is invalid
+     */
+    public static HomeworkStatus fromString(String status) {
+        for (HomeworkStatus homeworkStatus : HomeworkStatus.values()) {
+            if (homeworkStatus.getStatus().equalsIgnoreCase(status)) {
+                return homeworkStatus;
+            }
+        }
+        throw new IllegalArgumentException("Invalid homework status: " + status);
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.address.model.person;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
@@ -16,6 +15,9 @@ import java.util.TreeMap;
  * leaving the original instance unchanged.
  * </p>
  *
+ * <p>The status of each assignment takes two bits of a single {@code int}, so updates take constant time and
+ * allocate only the new tracker. The map returned by {@link #asMap()} is built when it is first asked for.</p>
+ *
  * <p>Usage example:</p>
  * <pre>{@code
  * HomeworkTracker tracker = new HomeworkTracker();
@@ -28,51 +30,81 @@ public class HomeworkTracker {
     /** The maximum number of assignments a person can have (IDs range from 1 to MAX_ASSIGNMENTS). */
     public static final int MAX_ASSIGNMENTS = 13; // 1..13
 
-    /** Internal map storing assignment IDs and their corresponding statuses. */
-    private final Map<Integer, Homework> statuses;
+    private static final int BITS_PER_ASSIGNMENT = 2;
+    private static final int ASSIGNMENT_MASK = 0b11;
+    private static final int VALID_BITS = (1 << (MAX_ASSIGNMENTS * BITS_PER_ASSIGNMENT)) - 1;
+
+    private static final HomeworkStatus[] STATUSES = HomeworkStatus.values();
+
+    /**
+     * Status codes of all assignments, two bits per assignment starting from assignment 1 in the lowest bits:
+     * 0 if the assignment has not been added, otherwise the status's ordinal plus one.
+     */
+    private final int packed;
+
+    /** The map view of the statuses, built when it is first asked for. */
+    private volatile Map<Integer, Homework> statuses;
 
     /**
      * Constructs an empty {@code HomeworkTracker} with no recorded homework statuses.
      */
     public HomeworkTracker() {
-        this.statuses = new TreeMap<>();
+        this(0);
     }
 
     /**
      * Constructs a {@code HomeworkTracker} with the given map of assignment statuses.
-     * <p>
-     * The map is defensively copied to preserve immutability.
-     * </p>
      *
      * @param statuses a map of assignment IDs to their statuses
      * @throws NullPointerException if {@code statuses} is {@code null}
+     * @throws IllegalArgumentException if an assignment ID is not between 1 and 13
      */
     public HomeworkTracker(Map<Integer, Homework> statuses) {
-        this.statuses = new TreeMap<>(Objects.requireNonNull(statuses));
+        this(pack(Objects.requireNonNull(statuses)));
+    }
+
+    private HomeworkTracker(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Returns a {@code HomeworkTracker} with the given status codes, as returned by {@link #toPacked()}.
+     *
+     * @throws IllegalArgumentException if {@code packed} is not a valid set of status codes
+     */
+    public static HomeworkTracker fromPacked(int packed) {
+        if ((packed & ~VALID_BITS) != 0) {
+            throw new IllegalArgumentException("Assignment ID must be between 1 and 13.");
+        }
+        return new HomeworkTracker(packed);
+    }
+
+    /**
+     * Returns the status codes of all assignments, two bits per assignment starting from assignment 1 in the lowest
+     * bits. A code is 0 if the assignment has not been added, and otherwise the {@link HomeworkStatus#ordinal()}
+     * plus one.
+     */
+    public int toPacked() {
+        return packed;
     }
 
     /** Add a new homework with status incomplete by default. */
     public HomeworkTracker addHomework(int assignmentId) {
-        if (assignmentId < 0 || assignmentId > MAX_ASSIGNMENTS) {
+        if (!isValidAssignmentId(assignmentId)) {
             throw new IllegalArgumentException("Assignment ID must be between 1 and 13.");
         }
-        if (statuses.containsKey(assignmentId)) {
+        if (contains(assignmentId)) {
             return this; // already exists
         }
-        Map<Integer, Homework> updated = new HashMap<>(statuses);
-        updated.put(assignmentId, new Homework(assignmentId, Homework.STATUS_INCOMPLETE));
-        return new HomeworkTracker(updated);
+        return with(assignmentId, HomeworkStatus.INCOMPLETE);
     }
 
     /** Remove a homework with the given student number or remove for all students */
     public HomeworkTracker removeHomework(int assignmentId) {
-        if (!statuses.containsKey(assignmentId)) {
+        if (!contains(assignmentId)) {
             throw new IllegalArgumentException("Homework not found.");
         }
-
-        Map<Integer, Homework> updatedMap = new HashMap<>(statuses);
-        updatedMap.remove(assignmentId);
-        return new HomeworkTracker(updatedMap);
+        return new HomeworkTracker(packed & ~(ASSIGNMENT_MASK << shiftOf(assignmentId)));
     }
 
     /**
@@ -90,13 +122,20 @@ public class HomeworkTracker {
         if (!isValidStatus(status)) {
             throw new IllegalArgumentException("Please enter complete/incomplete/late only");
         }
-        HashMap<Integer, Homework> copy = new HashMap<>(statuses);
-        Homework existing = copy.get(assignmentId);
-        if (existing == null) {
+        return updateStatus(assignmentId, HomeworkStatus.fromString(status));
+    }
+
+    /**
+     * Returns a {@code HomeworkTracker} with the specified assignment updated to the given status.
+     *
+     * @throws IllegalArgumentException if the assignment has not been added
+     */
+    public HomeworkTracker updateStatus(int assignmentId, HomeworkStatus status) {
+        Objects.requireNonNull(status);
+        if (!contains(assignmentId)) {
             throw new IllegalArgumentException("Assignment not found. Add it first using 'addhw'.");
         }
-        copy.put(assignmentId, existing.withStatus(status));
-        return new HomeworkTracker(copy);
+        return with(assignmentId, status);
     }
 
     /**
@@ -106,17 +145,61 @@ public class HomeworkTracker {
      * @return the homework status if recorded, or {@code "not marked"} if none exists
      */
     public String getStatus(int assignmentId) {
-        Homework hw = statuses.get(assignmentId);
-        return hw == null ? "not marked" : hw.getStatus();
+        int code = codeOf(assignmentId);
+        return code == 0 ? "not marked" : STATUSES[code - 1].getStatus();
     }
 
     /**
-     * Returns an unmodifiable view of the internal assignment-status map.
+     * Returns an unmodifiable view of the assignments and their statuses, in order of assignment ID.
      *
      * @return an unmodifiable map of assignment IDs to statuses
      */
     public Map<Integer, Homework> asMap() {
-        return Collections.unmodifiableMap(statuses);
+        Map<Integer, Homework> map = statuses;
+        if (map == null) {
+            Map<Integer, Homework> built = new TreeMap<>();
+            for (int id = 1; id <= MAX_ASSIGNMENTS; id++) {
+                int code = codeOf(id);
+                if (code != 0) {
+                    built.put(id, Homework.of(id, STATUSES[code - 1]));
+                }
+            }
+            map = Collections.unmodifiableMap(built);
+            statuses = map;
+        }
+        return map;
+    }
+
+    private HomeworkTracker with(int assignmentId, HomeworkStatus status) {
+        int shift = shiftOf(assignmentId);
+        int updated = (packed & ~(ASSIGNMENT_MASK << shift)) | ((status.ordinal() + 1) << shift);
+        return updated == packed ? this : new HomeworkTracker(updated);
+    }
+
+    /**
+     * Returns the status code of the given assignment, or 0 if it has not been added or the ID is not valid.
+     */
+    private int codeOf(int assignmentId) {
+        if (!isValidAssignmentId(assignmentId)) {
+            return 0;
+        }
+        return (packed >>> shiftOf(assignmentId)) & ASSIGNMENT_MASK;
+    }
+
+    private static int shiftOf(int assignmentId) {
+        return (assignmentId - 1) * BITS_PER_ASSIGNMENT;
+    }
+
+    private static int pack(Map<Integer, Homework> statuses) {
+        int packed = 0;
+        for (Map.Entry<Integer, Homework> entry : statuses.entrySet()) {
+            int id = entry.getKey();
+            if (!isValidAssignmentId(id)) {
+                throw new IllegalArgumentException("Assignment ID must be between 1 and 13.");
+            }
+            packed |= (entry.getValue().getHomeworkStatus().ordinal() + 1) << shiftOf(id);
+        }
+        return packed;
     }
 
     /**
@@ -139,9 +222,8 @@ public class HomeworkTracker {
         if (s == null) {
             return false;
         }
-        String[] validStatuses = {Homework.STATUS_COMPLETE, Homework.STATUS_INCOMPLETE, Homework.STATUS_LATE};
-        for (String v : validStatuses) {
-            if (v.equalsIgnoreCase(s)) {
+        for (HomeworkStatus status : STATUSES) {
+            if (status.getStatus().equalsIgnoreCase(s)) {
                 return true;
             }
         }
@@ -149,7 +231,7 @@ public class HomeworkTracker {
     }
 
     public boolean hasAssignment(int assignmentId) {
-        return statuses.containsKey(assignmentId);
+        return contains(assignmentId);
     }
 
 
@@ -162,12 +244,12 @@ public class HomeworkTracker {
      */
     @Override
     public String toString() {
-        return statuses.toString();
+        return asMap().toString();
     }
 
     /**
      * Returns {@code true} if this tracker is equal to the specified object.
-     * Two trackers are equal if their internal status maps are identical.
+     * Two trackers are equal if they record the same statuses for the same assignments.
      *
      * @param o the object to compare with
      * @return {@code true} if both trackers have the same statuses, {@code false} otherwise
@@ -181,20 +263,20 @@ public class HomeworkTracker {
             return false;
         }
         HomeworkTracker other = (HomeworkTracker) o;
-        return statuses.equals(other.statuses);
+        return packed == other.packed;
     }
 
     public boolean contains(int assignmentId) {
-        return statuses.containsKey(assignmentId);
+        return codeOf(assignmentId) != 0;
     }
 
     /**
-     * Returns the hash code of this tracker based on its status map.
+     * Returns the hash code of this tracker based on its statuses.
      *
      * @return the hash code value
      */
     @Override
     public int hashCode() {
-        return statuses.hashCode();
+        return Integer.hashCode(packed);
     }
 }
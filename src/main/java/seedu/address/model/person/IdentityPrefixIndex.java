@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.IdentityPrefixPredicate.Field;
+
+/**
+ * Prefix tries over the NUSNET ID, telegram handle and email of each person, from the case-folded value of the field
+ * to the NUSNET ID of the person.
+ */
+class IdentityPrefixIndex {
+
+    private final Map<Field, PrefixTrie<Nusnetid>> tries = new EnumMap<>(Field.class);
+
+    /** Counts the changes to {@code tries}, so that predicates can tell when their cached matches are stale. */
+    private int modificationCount;
+
+    IdentityPrefixIndex() {
+        for (Field field : Field.values()) {
+            tries.put(field, new PrefixTrie<>());
+        }
+    }
+
+    void add(Person person) {
+        for (Field field : Field.values()) {
+            field.valueOf(person).ifPresent(value ->
+                    tries.get(field).add(StringUtil.foldCase(value), person.getNusnetid()));
+        }
+        modificationCount++;
+    }
+
+    void remove(Person person) {
+        for (Field field : Field.values()) {
+            field.valueOf(person).ifPresent(value ->
+                    tries.get(field).remove(StringUtil.foldCase(value), person.getNusnetid()));
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the entries of {@code target} with those of {@code updated}.
+     * Nothing changes if none of the indexed fields differ.
+     */
+    void replace(Person target, Person updated) {
+        if (target.getNusnetid().equals(updated.getNusnetid())
+                && target.getTelegram().equals(updated.getTelegram())
+                && target.getEmail().equals(updated.getEmail())) {
+            return;
+        }
+        remove(target);
+        add(updated);
+    }
+
+    void clear() {
+        tries.values().forEach(PrefixTrie::clear);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the NUSNET IDs of the persons whose {@code field} starts with {@code prefix}, ignoring case.
+     */
+    Set<Nusnetid> findByPrefix(Field field, String prefix) {
+        return tries.get(field).findByPrefix(StringUtil.foldCase(prefix));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} for the persons in the indexed list, which looks its
+     * matches up in the tries once and again only after the index changes.
+     */
+    Predicate<Person> matching(IdentityPrefixPredicate predicate) {
+        requireNonNull(predicate);
+        return new PrefixPredicate(predicate.getField(), predicate.getPrefix());
+    }
+
+    private class PrefixPredicate implements Predicate<Person> {
+        private final Field field;
+        private final String prefix;
+        private Set<Nusnetid> matches;
+        private int matchesModificationCount;
+
+        PrefixPredicate(Field field, String prefix) {
+            this.field = field;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = findByPrefix(field, prefix);
+                matchesModificationCount = modificationCount;
+            }
+            return matches.contains(person.getNusnetid());
+        }
+    }
+}
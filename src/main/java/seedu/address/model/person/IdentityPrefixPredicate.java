@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that the NUSNET ID, telegram handle or email of a {@code Person} starts with the prefix given,
+ * ignoring case.
+ */
+public class IdentityPrefixPredicate implements Predicate<Person> {
+
+    /**
+     * The identity fields that can be searched by prefix.
+     */
+    public enum Field {
+        NUSNETID, TELEGRAM, EMAIL;
+
+        /**
+         * Returns the value of this field of {@code person}, if they have one.
+         */
+        public Optional<String> valueOf(Person person) {
+            switch (this) {
+            case NUSNETID:
+                return Optional.of(person.getNusnetid().value);
+            case TELEGRAM:
+                return Optional.of(person.getTelegram().value);
+            case EMAIL:
+                return person.getEmail().map(email -> email.value);
+            default:
+                throw new AssertionError("Unknown field: " + this);
+            }
+        }
+    }
+
+    private final Field field;
+    private final String prefix;
+
+    /**
+     * Creates a predicate for the persons whose {@code field} starts with {@code prefix}.
+     */
+    public IdentityPrefixPredicate(Field field, String prefix) {
+        requireAllNonNull(field, prefix);
+        this.field = field;
+        this.prefix = prefix;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String foldedPrefix = StringUtil.foldCase(prefix);
+        return field.valueOf(person)
+                .map(value -> StringUtil.foldCase(value).startsWith(foldedPrefix))
+                .orElse(false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IdentityPrefixPredicate)) {
+            return false;
+        }
+
+        IdentityPrefixPredicate otherIdentityPrefixPredicate = (IdentityPrefixPredicate) other;
+        return field == otherIdentityPrefixPredicate.field
+                && prefix.equals(otherIdentityPrefixPredicate.prefix);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("prefix", prefix).toString();
+    }
+}
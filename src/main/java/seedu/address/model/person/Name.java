@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +23,7 @@ public class Name {
      * Maximum length: 75 characters total.
      */
     public static final String VALIDATION_REGEX = "[\\p{L}\\p{N}\"',][\\p{L}\\p{N} \"',]{0,69}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -34,11 +38,23 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns the {@code Name} for {@code name}, or an empty {@code Optional} if it is not a valid name.
+     */
+    public static Optional<Name> parse(String name) {
+        requireNonNull(name);
+        try {
+            return Optional.of(new Name(name));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from each word of a person's name to the NUSNET IDs of the persons whose name has that word.
+ * Words are stored case-folded with {@link StringUtil#foldCase(String)}, so that looking up a word matches it the way
+ * {@link String#equalsIgnoreCase(String)} does.
+ */
+class NameTokenIndex {
+
+    private final Map<String, Set<Nusnetid>> postings = new HashMap<>();
+
+    /** Counts the changes to {@code postings}, so that predicates can tell when their cached matches are stale. */
+    private int modificationCount;
+
+    void add(Person person) {
+        for (String token : tokensOf(person.getName())) {
+            postings.computeIfAbsent(token, unused -> new HashSet<>()).add(person.getNusnetid());
+        }
+        modificationCount++;
+    }
+
+    void remove(Person person) {
+        for (String token : tokensOf(person.getName())) {
+            Set<Nusnetid> posting = postings.get(token);
+            if (posting != null && posting.remove(person.getNusnetid()) && posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the entries of {@code target} with those of {@code updated}.
+     * Nothing changes if both have the same name and NUSNET ID, as when only attendance or homework is updated.
+     */
+    void replace(Person target, Person updated) {
+        if (target.getName().equals(updated.getName()) && target.getNusnetid().equals(updated.getNusnetid())) {
+            return;
+        }
+        remove(target);
+        add(updated);
+    }
+
+    void clear() {
+        postings.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the NUSNET IDs of the persons whose name has any of {@code keywords} as a word, ignoring case.
+     * The result is the union of the postings of the keywords, so its cost depends on the number of matches
+     * rather than the number of persons.
+     */
+    Set<Nusnetid> findAny(Collection<String> keywords) {
+        Set<Nusnetid> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<Nusnetid> posting = postings.get(StringUtil.foldCase(keyword.trim()));
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that tests whether a person in the indexed list has any of {@code keywords} as a word of
+     * their name, ignoring case. The matches are looked up once and looked up again only after the index changes.
+     */
+    Predicate<Person> nameContainsAnyOf(List<String> keywords) {
+        requireNonNull(keywords);
+        return new KeywordsPredicate(List.copyOf(keywords));
+    }
+
+    private static String[] tokensOf(Name name) {
+        String[] tokens = name.fullName.split("\\s+");
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = StringUtil.foldCase(tokens[i]);
+        }
+        return tokens;
+    }
+
+    private class KeywordsPredicate implements Predicate<Person> {
+        private final List<String> keywords;
+        private Set<Nusnetid> matches;
+        private int matchesModificationCount;
+
+        KeywordsPredicate(List<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = findAny(keywords);
+                matchesModificationCount = modificationCount;
+            }
+            return matches.contains(person.getNusnetid());
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+
 /**
  * Represents a Person's NUSnetid in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNusnetid(String)}
@@ -15,7 +17,7 @@ public class Nusnetid {
     /*
      * The first character of the NUSnetid must be a E and follow by 7 numbers.
      */
-    private static final String VALIDATION_REGEX = "[Ee]\\d{7}";
+    private static final int LENGTH = 8;
 
     public final String value;
 
@@ -27,14 +29,38 @@ public class Nusnetid {
     public Nusnetid(String nusnetid) {
         requireNonNull(nusnetid);
         checkArgument(isValidNusnetid(nusnetid), MESSAGE_CONSTRAINTS);
-        value = "E" + nusnetid.substring(1);
+        value = normalize(nusnetid);
+    }
+
+    /**
+     * Returns the {@code Nusnetid} for {@code nusnetid}, or an empty {@code Optional} if it is not a valid NUSNETID.
+     */
+    public static Optional<Nusnetid> parse(String nusnetid) {
+        requireNonNull(nusnetid);
+        try {
+            return Optional.of(new Nusnetid(nusnetid));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     /**
      * Returns true if a given string is a valid NUSNETID.
      */
     public static boolean isValidNusnetid(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() != LENGTH || (test.charAt(0) != 'E' && test.charAt(0) != 'e')) {
+            return false;
+        }
+        for (int i = 1; i < LENGTH; i++) {
+            if (test.charAt(i) < '0' || test.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String nusnetid) {
+        return nusnetid.charAt(0) == 'E' ? nusnetid : "E" + nusnetid.substring(1);
     }
 
     @Override
@@ -196,6 +196,19 @@ public class Person {
                 this.attendanceSheet, this.consultation);
     }
 
+    /**
+     * Returns a Person with the attendance for {@code week} marked as {@code status}.
+     * Returns this person if the week is already marked with that status.
+     */
+    public Person withAttendance(int week, AttendanceStatus status) {
+        AttendanceSheet updatedSheet = attendanceSheet.markAttendance(week, status);
+        if (updatedSheet == attendanceSheet) {
+            return this;
+        }
+        return new Person(this.name, this.phone, this.email, this.nusnetid, this.telegram, this.groupId,
+                this.homeworkTracker, updatedSheet, this.consultation);
+    }
+
     /**
      * Returns a new Person with updated GroupId.
      * @param newGroupId the new GroupId to be set.
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -15,6 +18,7 @@ public class Phone {
                     + "and only accept single phone number, for example +6580000000.";
     // Optional leading '+' followed by 3 to 30 digits
     public static final String VALIDATION_REGEX = "^\\+?\\d{3,30}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -28,11 +32,23 @@ public class Phone {
         value = phone;
     }
 
+    /**
+     * Returns the {@code Phone} for {@code phone}, or an empty {@code Optional} if it is not a valid phone number.
+     */
+    public static Optional<Phone> parse(String phone) {
+        requireNonNull(phone);
+        try {
+            return Optional.of(new Phone(phone));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
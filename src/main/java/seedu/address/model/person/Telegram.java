@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Optional;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's telegram handle in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTelegram(String)}
@@ -13,6 +16,7 @@ public class Telegram {
     public static final String MESSAGE_CONSTRAINTS =
             "Telegram handle should start with @ and has no whitespace in it.";
     public static final String VALIDATION_REGEX = "@\\S+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -26,11 +30,23 @@ public class Telegram {
         value = telegram;
     }
 
+    /**
+     * Returns the {@code Telegram} for {@code telegram}, or an empty {@code Optional} if it is not a valid handle.
+     */
+    public static Optional<Telegram> parse(String telegram) {
+        requireNonNull(telegram);
+        try {
+            return Optional.of(new Telegram(telegram));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Returns true if a given string is a valid telegram handle.
      */
     public static boolean isValidTelegram(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
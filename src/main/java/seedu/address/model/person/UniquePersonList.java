@@ -6,10 +6,17 @@ import static seedu.address.logic.commands.AddConsultationCommand.MESSAGE_STUDEN
 import static seedu.address.logic.commands.DeleteConsultationCommand.MESSAGE_STUDENT_DOES_NOT_HAVE_CONSULTATION;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -22,22 +29,36 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Alongside the list, hash indexes are kept on every identity field checked by {@code Person#isSamePerson(Person)}
+ * (NUSNET ID, telegram, phone and email), together with the position of each person in the list. The indexes are
+ * updated on every add, set and remove so that identity checks and NUSNET ID lookups take constant time.
+ * A {@link NameTokenIndex} over the words of each name, and an {@link IdentityPrefixIndex} over the NUSNET ID,
+ * telegram and email of each person, are kept up to date in the same way for finding persons by name or by prefix.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<Nusnetid, Person> nusnetidIndex = new HashMap<>();
+    private final Map<Telegram, Person> telegramIndex = new HashMap<>();
+    private final Map<Phone, Person> phoneIndex = new HashMap<>();
+    private final Map<Email, Person> emailIndex = new HashMap<>();
+    private final Map<Nusnetid, Integer> positionIndex = new HashMap<>();
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+    private final IdentityPrefixIndex identityPrefixIndex = new IdentityPrefixIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return findSamePerson(toCheck) != null;
     }
 
     /**
@@ -45,7 +66,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Nusnetid toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(p -> p.hasSameNusnetId(toCheck));
+        return nusnetidIndex.containsKey(toCheck);
     }
 
     /**
@@ -54,7 +75,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person find(Nusnetid toFind) {
         requireNonNull(toFind);
-        return internalList.stream().filter(p -> p.hasSameNusnetId(toFind)).findFirst().orElse(null);
+        return nusnetidIndex.get(toFind);
     }
 
     /**
@@ -64,10 +85,38 @@ public class UniquePersonList implements Iterable<Person> {
     public void add(Person toAdd) {
         requireNonNull(toAdd);
         if (!contains(toAdd)) {
+            addToIndexes(toAdd, internalList.size());
+            nameIndex.add(toAdd);
+            identityPrefixIndex.add(toAdd);
             internalList.add(toAdd);
         }
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change to the list.
+     * None of the persons may have the same identity as a person in the list or as another person in {@code toAdd}.
+     *
+     * @throws DuplicatePersonException naming the first colliding pair, if any, in which case nothing is added.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        for (Person person : toAdd) {
+            Person existing = findSamePerson(person);
+            if (existing != null) {
+                throw new DuplicatePersonException(existing, person);
+            }
+        }
+        requireUniqueIdentities(toAdd);
+
+        int position = internalList.size();
+        for (Person person : toAdd) {
+            addToIndexes(person, position++);
+            nameIndex.add(person);
+            identityPrefixIndex.add(person);
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -76,30 +125,89 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person existing = internalList.get(index);
+        if (findSamePerson(editedPerson, existing) != null) {
             throw new DuplicatePersonException();
         }
 
+        removeFromIndexes(existing);
+        addToIndexes(editedPerson, index);
+        nameIndex.replace(existing, editedPerson);
+        identityPrefixIndex.replace(existing, editedPerson);
         internalList.set(index, editedPerson);
     }
+    /**
+     * Replaces each person in {@code targets} with the result of applying {@code update} to them, as a single change
+     * to the list. Every person in {@code targets} must exist in the list, and {@code update} must keep the identity
+     * fields of each person.
+     *
+     * @return the updated persons, in the order of {@code targets}.
+     */
+    public List<Person> updatePersons(Collection<Person> targets, UnaryOperator<Person> update) {
+        requireAllNonNull(targets, update);
+
+        // Work out every update before changing anything, so that the list is left as it is if one of them fails
+        List<Person> updatedPersons = new ArrayList<>(targets.size());
+        for (Person target : targets) {
+            if (indexOf(target) == -1) {
+                throw new PersonNotFoundException();
+            }
+            Person updated = update.apply(target);
+            requireNonNull(updated);
+            if (!hasSameIdentityFields(target, updated)) {
+                throw new IllegalArgumentException("A batch update cannot change the identity of a person.");
+            }
+            updatedPersons.add(updated);
+        }
+
+        // Only the updated positions are replaced, so listeners such as filtered lists look at those persons alone
+        Map<Integer, Person> replacements = new TreeMap<>();
+        Iterator<Person> updates = updatedPersons.iterator();
+        for (Person target : targets) {
+            Person updated = updates.next();
+            if (updated != target) {
+                int index = positionIndex.get(target.getNusnetid());
+                Person existing = replacements.getOrDefault(index, internalList.get(index));
+                removeFromIndexes(existing);
+                addToIndexes(updated, index);
+                nameIndex.replace(existing, updated);
+                identityPrefixIndex.replace(existing, updated);
+                replacements.put(index, updated);
+            }
+        }
+        internalList.setEach(replacements);
+        return updatedPersons;
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.get(index);
+        removeFromIndexes(removed);
+        nameIndex.remove(removed);
+        identityPrefixIndex.remove(removed);
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getNusnetid(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -109,10 +217,9 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        requireUniqueIdentities(persons);
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
@@ -122,16 +229,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void addConsultationToPerson(Nusnetid nusnetid, Consultation consultation) {
         requireAllNonNull(nusnetid, consultation);
-        for (int i = 0; i < internalList.size(); i++) {
-            Person person = internalList.get(i);
-            if (person.hasSameNusnetId(nusnetid)) {
-                if (person.hasConsultation()) {
-                    throw new IllegalArgumentException(MESSAGE_STUDENT_ALREADY_HAS_CONSULTATION);
-                }
-                Person updatedPerson = person.addConsultation(consultation);
-                internalList.set(i, updatedPerson);
-            }
+        Person person = nusnetidIndex.get(nusnetid);
+        if (person == null) {
+            return;
+        }
+        if (person.hasConsultation()) {
+            throw new IllegalArgumentException(MESSAGE_STUDENT_ALREADY_HAS_CONSULTATION);
         }
+        replaceInPlace(person, person.addConsultation(consultation));
     }
     /**
      * Deletes the consultation from the person identified by the given {@nusnetid}.
@@ -140,19 +245,35 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Consultation deleteConsultationFromPerson(Nusnetid nusnetid) {
         requireAllNonNull(nusnetid);
-        for (int i = 0; i < internalList.size(); i++) {
-            Person person = internalList.get(i);
-            if (person.hasSameNusnetId(nusnetid)) {
-                if (!person.hasConsultation()) {
-                    throw new IllegalArgumentException(MESSAGE_STUDENT_DOES_NOT_HAVE_CONSULTATION);
-                }
-                Consultation deletedConsultation = person.getConsultation().get();
-                Person updatedPerson = person.deleteConsultation();
-                internalList.set(i, updatedPerson);
-                return deletedConsultation;
-            }
+        Person person = nusnetidIndex.get(nusnetid);
+        if (person == null) {
+            return null;
+        }
+        if (!person.hasConsultation()) {
+            throw new IllegalArgumentException(MESSAGE_STUDENT_DOES_NOT_HAVE_CONSULTATION);
         }
-        return null;
+        Consultation deletedConsultation = person.getConsultation().get();
+        replaceInPlace(person, person.deleteConsultation());
+        return deletedConsultation;
+    }
+
+    /**
+     * Returns a predicate that tests whether a person in this list has any of {@code keywords} as a word of their
+     * name, ignoring case. The keywords are looked up in the name index, and the predicate stays correct as the list
+     * changes.
+     */
+    public Predicate<Person> nameContainsAnyOf(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameIndex.nameContainsAnyOf(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests the persons in this list the same way as {@code predicate}, but which finds the
+     * matching persons in the prefix index of the field searched, and stays correct as the list changes.
+     */
+    public Predicate<Person> matchingPrefix(IdentityPrefixPredicate predicate) {
+        requireNonNull(predicate);
+        return identityPrefixIndex.matching(predicate);
     }
 
     /**
@@ -164,7 +285,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -197,19 +318,189 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Checks in a single pass that no two persons in {@code persons} share a NUSNET ID, telegram, phone or email.
+     *
+     * @throws DuplicatePersonException naming the first colliding pair, if any.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static void requireUniqueIdentities(List<Person> persons) {
+        // The identity field classes never equal one another, so a single map can hold all four kinds of key.
+        Map<Object, Person> seen = new HashMap<>();
+        for (Person person : persons) {
+            requireUnseen(seen, person.getNusnetid(), person);
+            requireUnseen(seen, person.getTelegram(), person);
+            if (person.getPhone().isPresent()) {
+                requireUnseen(seen, person.getPhone().get(), person);
             }
+            if (person.getEmail().isPresent()) {
+                requireUnseen(seen, person.getEmail().get(), person);
+            }
+        }
+    }
+
+    private static void requireUnseen(Map<Object, Person> seen, Object identityField, Person person) {
+        Person earlier = seen.putIfAbsent(identityField, person);
+        if (earlier != null) {
+            throw new DuplicatePersonException(earlier, person);
         }
-        return true;
     }
+
     public List<Person> toList() {
-        return internalList;
+        return internalUnmodifiableList;
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Person stored = nusnetidIndex.get(person.getNusnetid());
+        if (stored == null || !stored.equals(person)) {
+            return -1;
+        }
+        return positionIndex.get(stored.getNusnetid());
+    }
+
+    /**
+     * Returns a person in the list that has the same identity as {@code toCheck}, or null if there is none.
+     */
+    private Person findSamePerson(Person toCheck) {
+        return findSamePerson(toCheck, null);
+    }
+
+    /**
+     * Returns a person in the list, other than {@code ignored}, that has the same identity as {@code toCheck},
+     * or null if there is none.
+     */
+    private Person findSamePerson(Person toCheck, Person ignored) {
+        Person match = nusnetidIndex.get(toCheck.getNusnetid());
+        if (match == null || match == ignored) {
+            match = telegramIndex.get(toCheck.getTelegram());
+        }
+        if ((match == null || match == ignored) && toCheck.getPhone().isPresent()) {
+            match = phoneIndex.get(toCheck.getPhone().get());
+        }
+        if ((match == null || match == ignored) && toCheck.getEmail().isPresent()) {
+            match = emailIndex.get(toCheck.getEmail().get());
+        }
+        return match == ignored ? null : match;
+    }
+
+    /**
+     * Replaces {@code target} with {@code updated}, which must have the same identity fields as {@code target}.
+     */
+    private void replaceInPlace(Person target, Person updated) {
+        int index = positionIndex.get(target.getNusnetid());
+        removeFromIndexes(target);
+        addToIndexes(updated, index);
+        nameIndex.replace(target, updated);
+        identityPrefixIndex.replace(target, updated);
+        internalList.set(index, updated);
+    }
+
+    private static boolean hasSameIdentityFields(Person person, Person otherPerson) {
+        return person.getNusnetid().equals(otherPerson.getNusnetid())
+                && person.getTelegram().equals(otherPerson.getTelegram())
+                && person.getPhone().equals(otherPerson.getPhone())
+                && person.getEmail().equals(otherPerson.getEmail());
+    }
+
+    private void addToIndexes(Person person, int position) {
+        nusnetidIndex.put(person.getNusnetid(), person);
+        telegramIndex.put(person.getTelegram(), person);
+        person.getPhone().ifPresent(phone -> phoneIndex.put(phone, person));
+        person.getEmail().ifPresent(email -> emailIndex.put(email, person));
+        positionIndex.put(person.getNusnetid(), position);
+    }
+
+    private void removeFromIndexes(Person person) {
+        nusnetidIndex.remove(person.getNusnetid());
+        telegramIndex.remove(person.getTelegram());
+        person.getPhone().ifPresent(phoneIndex::remove);
+        person.getEmail().ifPresent(emailIndex::remove);
+        positionIndex.remove(person.getNusnetid());
+    }
+
+    private void rebuildIndexes(List<Person> persons) {
+        nusnetidIndex.clear();
+        telegramIndex.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        positionIndex.clear();
+        nameIndex.clear();
+        identityPrefixIndex.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            addToIndexes(persons.get(i), i);
+            nameIndex.add(persons.get(i));
+            identityPrefixIndex.add(persons.get(i));
+        }
+    }
+
+    /**
+     * An observable array list of persons that can replace the persons at several positions as one change.
+     */
+    private static class PersonObservableList extends ModifiableObservableListBase<Person> {
+        private final List<Person> persons = new ArrayList<>();
+
+        /**
+         * Replaces the person at each position in {@code replacements}, notifying listeners of a single change.
+         */
+        void setEach(Map<Integer, Person> replacements) {
+            if (replacements.isEmpty()) {
+                return;
+            }
+            beginChange();
+            try {
+                replacements.forEach(this::set);
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Replaces all persons as one change, without removing them one at a time.
+         */
+        @Override
+        public boolean setAll(Collection<? extends Person> col) {
+            beginChange();
+            try {
+                List<Person> removed = new ArrayList<>(persons);
+                persons.clear();
+                persons.addAll(col);
+                modCount++;
+                if (!removed.isEmpty()) {
+                    nextRemove(0, removed);
+                }
+                if (!persons.isEmpty()) {
+                    nextAdd(0, persons.size());
+                }
+            } finally {
+                endChange();
+            }
+            return true;
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
     }
 }
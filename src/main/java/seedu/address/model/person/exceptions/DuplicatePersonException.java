@@ -1,5 +1,7 @@
 package seedu.address.model.person.exceptions;
 
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,11 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Creates an exception that names the two persons found to have the same identity.
+     */
+    public DuplicatePersonException(Person first, Person second) {
+        super(String.format("Operation would result in duplicate persons: %s and %s", first, second));
+    }
 }
@@ -0,0 +1,360 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Telegram;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * It is much cheaper to load and save than a json file when the address book is large, so json is best kept for
+ * exporting and importing address books.
+ *
+ * The file starts with a magic number and a format version, followed by
+ * <ul>
+ *     <li>a table of every distinct string in the address book, each stored once as its length and UTF-8 bytes,</li>
+ *     <li>the persons, each as a length-prefixed record of string table indexes, the attendance and homework
+ *     statuses packed two bits apiece into an int each, and the consultation times in minutes since the epoch,</li>
+ *     <li>the consultations, as length-prefixed records of the same kind.</li>
+ * </ul>
+ * Readers skip whatever follows the fields they know about in a record, so later versions can add fields to the end
+ * of records. The file is read through a memory-mapped buffer. Groups are not stored, as they are rebuilt from the
+ * persons' group ids.
+ *
+ * The binary file is kept apart from the json data file, as named by {@link #getBinaryFilePath(Path)}. When there is
+ * no binary file yet, the address book is imported from the json data file, if there is one. A file that does not
+ * start with the magic number is never written over, so a mistaken path cannot destroy other data.
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    static final int MAGIC = 0x4144424B; // "ADBK"
+    static final int VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "File is not a binary address book.";
+    private static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    private static final String MESSAGE_CORRUPTED = "Binary address book is corrupted.";
+    private static final String MESSAGE_NOT_OVERWRITTEN =
+            "File %s is not a binary address book and will not be written over.";
+
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final int NO_STRING = -1;
+
+    private static final int PERSON_RECORD_SIZE = 6 * Integer.BYTES + 2 * Integer.BYTES + 1;
+    private static final int CONSULTATION_TIMES_SIZE = 2 * Integer.BYTES;
+    private static final int CONSULTATION_RECORD_SIZE = Integer.BYTES + CONSULTATION_TIMES_SIZE;
+
+    private final Path jsonFilePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage for the binary file at {@code filePath}, which imports the address book from the json file
+     * at {@code jsonFilePath} while there is no binary file.
+     *
+     * @param jsonFilePath location of the json data file, or null if there is none to import.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path jsonFilePath) {
+        super(filePath);
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    /**
+     * Returns the path of the binary file kept alongside the json data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (jsonFilePath != null && filePath.equals(getAddressBookFilePath()) && !Files.exists(filePath)
+                && !Files.exists(getRollbackFilePath(filePath)) && Files.exists(jsonFilePath)) {
+            logger.info("Importing binary data file " + filePath + " from json data file " + jsonFilePath);
+            return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        }
+        return super.readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link FileAddressBookStorage#saveAddressBook(ReadOnlyAddressBook, Path)}.
+     *
+     * @throws IOException if {@code filePath} holds something other than a binary address book, or there was an
+     *     error writing to the file.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (Files.exists(filePath) && !isBinaryAddressBook(filePath)) {
+            throw new IOException(String.format(MESSAGE_NOT_OVERWRITTEN, filePath));
+        }
+        super.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is empty or starts with the magic number.
+     */
+    private static boolean isBinaryAddressBook(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, READ)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    return false;
+                }
+            }
+            return header.getInt(0) == MAGIC;
+        }
+    }
+
+    @Override
+    protected ReadOnlyAddressBook readFile(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    @Override
+    protected void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, WRITE, CREATE, TRUNCATE_EXISTING)) {
+            DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel)));
+            write(addressBook, output);
+            output.flush();
+            channel.force(false);
+        }
+    }
+
+    private static AddressBook read(ByteBuffer buffer) throws IOException, IllegalValueException {
+        if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[readCount(buffer)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(buffer)];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        // Most persons share a handful of groups, so each group id is only created once
+        GroupId[] groupIds = new GroupId[strings.length];
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = readCount(buffer);
+        for (int i = 0; i < personCount; i++) {
+            int end = recordEnd(buffer);
+            Person person = readPerson(buffer, strings, groupIds);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+            buffer.position(end);
+        }
+
+        int consultationCount = readCount(buffer);
+        for (int i = 0; i < consultationCount; i++) {
+            int end = recordEnd(buffer);
+            Nusnetid nusnetid = toNusnetid(strings[buffer.getInt()]);
+            Consultation consultation = readConsultation(buffer, nusnetid);
+            if (addressBook.hasConsultation(consultation)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONSULTATION);
+            }
+            addressBook.addConsultation(consultation);
+            buffer.position(end);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads a count of items or bytes, which cannot be more than the bytes that remain in {@code buffer}.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    /**
+     * Reads the length of the record at the position of {@code buffer}, and returns the position the record ends at.
+     */
+    private static int recordEnd(ByteBuffer buffer) {
+        int length = readCount(buffer);
+        return buffer.position() + length;
+    }
+
+    private static Person readPerson(ByteBuffer buffer, String[] strings, GroupId[] groupIds)
+            throws IllegalValueException {
+        Name name = Name.parse(strings[buffer.getInt()])
+                .orElseThrow(() -> new IllegalValueException(Name.MESSAGE_CONSTRAINTS));
+        Phone phone = null;
+        int phoneIndex = buffer.getInt();
+        if (phoneIndex != NO_STRING) {
+            phone = Phone.parse(strings[phoneIndex])
+                    .orElseThrow(() -> new IllegalValueException(Phone.MESSAGE_CONSTRAINTS));
+        }
+        Email email = null;
+        int emailIndex = buffer.getInt();
+        if (emailIndex != NO_STRING) {
+            email = Email.parse(strings[emailIndex])
+                    .orElseThrow(() -> new IllegalValueException(Email.MESSAGE_CONSTRAINTS));
+        }
+        Nusnetid nusnetid = toNusnetid(strings[buffer.getInt()]);
+        Telegram telegram = Telegram.parse(strings[buffer.getInt()])
+                .orElseThrow(() -> new IllegalValueException(Telegram.MESSAGE_CONSTRAINTS));
+        int groupIndex = buffer.getInt();
+        if (groupIds[groupIndex] == null) {
+            groupIds[groupIndex] = GroupId.parse(strings[groupIndex])
+                    .orElseThrow(() -> new IllegalValueException(GroupId.MESSAGE_CONSTRAINTS));
+        }
+        AttendanceSheet attendanceSheet = AttendanceSheet.fromPacked(buffer.getInt());
+        HomeworkTracker homeworkTracker = HomeworkTracker.fromPacked(buffer.getInt());
+        Consultation consultation = buffer.get() != 0 ? readConsultation(buffer, nusnetid) : null;
+
+        return new Person(name, phone, email, nusnetid, telegram, groupIds[groupIndex],
+                homeworkTracker, attendanceSheet, consultation);
+    }
+
+    private static Nusnetid toNusnetid(String nusnetid) throws IllegalValueException {
+        return Nusnetid.parse(nusnetid).orElseThrow(() -> new IllegalValueException(Nusnetid.MESSAGE_CONSTRAINTS));
+    }
+
+    private static Consultation readConsultation(ByteBuffer buffer, Nusnetid nusnetid) throws IllegalValueException {
+        LocalDateTime from = fromEpochMinutes(buffer.getInt());
+        LocalDateTime to = fromEpochMinutes(buffer.getInt());
+        if (!Consultation.isValidConsultation(from, to)) {
+            throw new IllegalValueException(Consultation.MESSAGE_CONSTRAINTS);
+        }
+        return new Consultation(nusnetid, from, to);
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, DataOutputStream output) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        List<Person> persons = addressBook.getPersonList();
+        for (Person person : persons) {
+            intern(strings, person.getName().fullName);
+            person.getPhone().ifPresent(phone -> intern(strings, phone.value));
+            person.getEmail().ifPresent(email -> intern(strings, email.value));
+            intern(strings, person.getNusnetid().value);
+            intern(strings, person.getTelegram().value);
+            intern(strings, person.getGroupId().value);
+        }
+        List<Consultation> consultations = new ArrayList<>(addressBook.getConsultationList());
+        for (Consultation consultation : consultations) {
+            intern(strings, consultation.getNusnetid().value);
+        }
+
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+
+        output.writeInt(persons.size());
+        for (Person person : persons) {
+            Optional<Consultation> consultation = person.getConsultation();
+            output.writeInt(PERSON_RECORD_SIZE + (consultation.isPresent() ? CONSULTATION_TIMES_SIZE : 0));
+            output.writeInt(strings.get(person.getName().fullName));
+            output.writeInt(person.getPhone().map(phone -> strings.get(phone.value)).orElse(NO_STRING));
+            output.writeInt(person.getEmail().map(email -> strings.get(email.value)).orElse(NO_STRING));
+            output.writeInt(strings.get(person.getNusnetid().value));
+            output.writeInt(strings.get(person.getTelegram().value));
+            output.writeInt(strings.get(person.getGroupId().value));
+            output.writeInt((int) person.getAttendanceSheet().toPacked());
+            output.writeInt(person.getHomeworkTracker().toPacked());
+            output.writeBoolean(consultation.isPresent());
+            if (consultation.isPresent()) {
+                writeTimes(consultation.get(), output);
+            }
+        }
+
+        output.writeInt(consultations.size());
+        for (Consultation consultation : consultations) {
+            output.writeInt(CONSULTATION_RECORD_SIZE);
+            output.writeInt(strings.get(consultation.getNusnetid().value));
+            writeTimes(consultation, output);
+        }
+    }
+
+    private static void intern(Map<String, Integer> strings, String string) {
+        strings.putIfAbsent(string, strings.size());
+    }
+
+    private static void writeTimes(Consultation consultation, DataOutputStream output) throws IOException {
+        output.writeInt(toEpochMinutes(consultation.getFrom()));
+        output.writeInt(toEpochMinutes(consultation.getTo()));
+    }
+
+    /**
+     * Consultation times are given to the minute, so they are stored as whole minutes since the epoch.
+     */
+    private static int toEpochMinutes(LocalDateTime dateTime) {
+        return Math.toIntExact(Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60));
+    }
+
+    private static LocalDateTime fromEpochMinutes(int epochMinutes) {
+        return LocalDateTime.ofEpochSecond(epochMinutes * 60L, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that keeps the address book in a single data file on the hard disk.
+ * Subclasses decide the format of the file.
+ *
+ * Saves never write over the data file. The new data is written to a temporary file and forced to the disk, the data
+ * file is kept as a rollback file by linking or copying it, and the temporary file is then renamed over the data
+ * file in a single step, so that the data file is never missing. If the data file is missing or cannot be loaded,
+ * the rollback file is loaded instead.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private Path filePath;
+
+    protected FileAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Path rollbackFilePath = getRollbackFilePath(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (!Files.exists(rollbackFilePath)) {
+                return Optional.empty();
+            }
+            // The data file was deleted outside the app
+            logger.warning("Data file " + filePath + " is missing, loading rollback file " + rollbackFilePath);
+            return Optional.of(readFileOrFail(rollbackFilePath));
+        }
+
+        try {
+            return Optional.of(readFileOrFail(filePath));
+        } catch (DataLoadingException e) {
+            if (!Files.exists(rollbackFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, loading rollback file "
+                    + rollbackFilePath);
+            try {
+                return Optional.of(readFileOrFail(rollbackFilePath));
+            } catch (DataLoadingException rollbackException) {
+                throw e;
+            }
+        }
+    }
+
+    private ReadOnlyAddressBook readFileOrFail(Path filePath) throws DataLoadingException {
+        try {
+            return readFile(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from address book file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = getTemporaryFilePath(filePath);
+        writeFile(addressBook, temporaryFilePath);
+        if (Files.exists(filePath)) {
+            keepAsRollback(filePath);
+        }
+        move(temporaryFilePath, filePath);
+        syncDirectoryOf(filePath);
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Every save is written to the data file in full
+    }
+
+    /**
+     * Reads the address book stored at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    protected abstract ReadOnlyAddressBook readFile(Path filePath) throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing its contents, and forces it to the disk.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    protected abstract void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * Returns the path of the file that keeps the previous version of the data file at {@code filePath}.
+     */
+    public static Path getRollbackFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".bak");
+    }
+
+    /**
+     * Returns the path of the file that a save writes in full before renaming it to the data file at {@code filePath}.
+     */
+    public static Path getTemporaryFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".tmp");
+    }
+
+    /**
+     * Makes the rollback file of {@code filePath} a hard link to the current data file, or a copy of it where the
+     * file system does not support hard links, leaving the data file in place.
+     */
+    private static void keepAsRollback(Path filePath) throws IOException {
+        Path rollbackFilePath = getRollbackFilePath(filePath);
+        Files.deleteIfExists(rollbackFilePath);
+        try {
+            Files.createLink(rollbackFilePath, filePath);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(filePath, rollbackFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the renames in the directory of {@code filePath} to the disk, where the file system supports it.
+     */
+    private static void syncDirectoryOf(Path filePath) {
+        Path directory = filePath.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms, such as Windows, cannot open a directory as a channel
+            logger.fine("Could not force directory " + directory + " to the disk: " + e);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that saves the changes made to the address book by appending them to a journal file,
+ * instead of rewriting the whole data file each time.
+ *
+ * The data file itself is kept by another {@code AddressBookStorage} and holds a snapshot of the address book.
+ * Every {@code compactionInterval} changes, and when {@link #flushAddressBook()} is called, a new snapshot is saved
+ * and the journal is started afresh. Appends to the journal are forced to the disk every {@code syncInterval}
+ * changes. Reading the address book loads the snapshot and then replays the journal on top of it.
+ *
+ * Each line of the journal is a JSON object. The first line identifies the snapshot the journal applies to, so that
+ * a journal left behind by an interrupted compaction is not replayed on top of the newer snapshot.
+ * A change that fails to be appended is cut off the journal again. A line that cannot be read, such as one cut short
+ * when the app stopped while appending it, ends the journal: the changes before it are loaded and compacted into a
+ * new snapshot, and the rest are dropped.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_INTERVAL = 500;
+    public static final int DEFAULT_SYNC_INTERVAL = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionInterval;
+    private final int syncInterval;
+
+    /** The address book as last saved or read, or null if the next save must write a snapshot. */
+    private ReadOnlyAddressBook lastSaved;
+    private FileChannel journal;
+    private int journalSize;
+    private int unsyncedChanges;
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_INTERVAL, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Creates a storage that journals changes to the address book kept by {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionInterval, int syncInterval) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = getJournalFilePath(snapshotStorage.getAddressBookFilePath());
+        this.compactionInterval = compactionInterval;
+        this.syncInterval = syncInterval;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + ".journal");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from the data file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook();
+        lastSaved = null;
+        if (!Files.exists(journalFilePath)) {
+            lastSaved = snapshot.orElse(null);
+            return snapshot;
+        }
+
+        List<String> entries;
+        try {
+            // Decoded leniently, as a line cut short can end part of the way through a character
+            entries = new String(Files.readAllBytes(journalFilePath), StandardCharsets.UTF_8).lines()
+                    .collect(Collectors.toList());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        if (entries.isEmpty() || !isJournalOf(entries.get(0))) {
+            logger.info("Ignoring journal " + journalFilePath + " left behind by an earlier snapshot.");
+            return snapshot;
+        }
+
+        ReadOnlyAddressBook base = snapshot.orElseGet(AddressBook::new);
+        JsonAddressBookChange.Replay replay =
+                new JsonAddressBookChange.Replay(base.getPersonList(), base.getConsultationList());
+        boolean isTruncated = false;
+        try {
+            for (int i = 1; i < entries.size(); i++) {
+                JsonAddressBookChange change;
+                try {
+                    change = JsonUtil.fromJsonString(entries.get(i), JsonAddressBookChange.class);
+                } catch (IOException ioe) {
+                    logger.warning("Ignoring unreadable change " + i + " and the rest of journal " + journalFilePath
+                            + ": " + ioe.getMessage());
+                    isTruncated = true;
+                    break;
+                }
+                change.applyTo(replay);
+            }
+            AddressBook addressBook = toAddressBook(replay.getPersons(), replay.getConsultations());
+            lastSaved = addressBook;
+            journalSize = entries.size() - 1;
+            if (isTruncated) {
+                compactAfterTruncatedJournal(addressBook);
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to any other file than the data file of this storage are written out in full.
+     * {@code addressBook} must not be modified after it is saved, as the next change is worked out against it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        if (lastSaved == null || journalSize >= compactionInterval) {
+            compact(addressBook);
+            return;
+        }
+
+        JsonAddressBookChange change = JsonAddressBookChange.between(lastSaved, addressBook);
+        if (!change.isEmpty()) {
+            try {
+                append(change);
+            } catch (IOException ioe) {
+                // Leave no change to be worked out against an address book the journal may not hold
+                lastSaved = null;
+                throw ioe;
+            }
+            journalSize++;
+            if (++unsyncedChanges >= syncInterval) {
+                sync();
+            }
+        }
+        lastSaved = addressBook;
+    }
+
+    /**
+     * Saves the address book as last saved into a new snapshot, and starts the journal afresh.
+     */
+    @Override
+    public synchronized void flushAddressBook() throws IOException {
+        if (lastSaved != null && journalSize > 0) {
+            compact(lastSaved);
+        } else if (journal != null) {
+            sync();
+        }
+    }
+
+    /**
+     * Saves the changes read before the unreadable line of the journal into a new snapshot, so that no further
+     * changes are appended after that line.
+     */
+    private void compactAfterTruncatedJournal(ReadOnlyAddressBook addressBook) {
+        try {
+            compact(addressBook);
+        } catch (IOException ioe) {
+            // The next save writes a snapshot instead of appending to the journal
+            logger.warning("Could not compact journal " + journalFilePath + ": " + ioe);
+            lastSaved = null;
+        }
+    }
+
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        closeJournal();
+        snapshotStorage.saveAddressBook(addressBook);
+        Files.deleteIfExists(journalFilePath);
+        journalSize = 0;
+        lastSaved = addressBook;
+    }
+
+    /**
+     * Appends {@code change} to the journal, after the line identifying the snapshot if the journal is new.
+     * If the append fails, the journal is cut back to its previous length, so that it never holds part of a line.
+     */
+    private void append(JsonAddressBookChange change) throws IOException {
+        if (journal == null) {
+            journal = FileChannel.open(journalFilePath, CREATE, WRITE, APPEND);
+        }
+        long lastGoodSize = journal.size();
+        try {
+            if (lastGoodSize == 0) {
+                writeLine(currentHeader());
+            }
+            writeLine(change);
+        } catch (IOException ioe) {
+            cutJournalBackTo(lastGoodSize);
+            throw ioe;
+        }
+    }
+
+    private void cutJournalBackTo(long size) {
+        try {
+            journal.truncate(size);
+            journal.force(false);
+        } catch (IOException truncateException) {
+            // An unreadable line is dropped when the journal is next loaded
+            logger.warning("Could not cut journal " + journalFilePath + " back to " + size + " bytes: "
+                    + truncateException);
+        }
+    }
+
+    private void writeLine(Object entry) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(line, false)) {
+            generator.writeObject(entry);
+        }
+        line.write('\n');
+        ByteBuffer buffer = ByteBuffer.wrap(line.toByteArray());
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+    }
+
+    private void sync() throws IOException {
+        journal.force(false);
+        unsyncedChanges = 0;
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+        unsyncedChanges = 0;
+    }
+
+    private JournalHeader currentHeader() throws IOException {
+        Path snapshotFile = getAddressBookFilePath();
+        return new JournalHeader(Files.size(snapshotFile), Files.getLastModifiedTime(snapshotFile).toMillis());
+    }
+
+    private boolean isJournalOf(String headerLine) {
+        try {
+            return JsonUtil.fromJsonString(headerLine, JournalHeader.class).equals(currentHeader());
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    private static AddressBook toAddressBook(List<Person> persons, List<Consultation> consultations)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        for (Consultation consultation : consultations) {
+            if (addressBook.hasConsultation(consultation)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONSULTATION);
+            }
+            addressBook.addConsultation(consultation);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Jackson-friendly identification of the snapshot a journal applies to.
+     */
+    static class JournalHeader {
+        private final long snapshotSize;
+        private final long snapshotModified;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                @JsonProperty("snapshotModified") long snapshotModified) {
+            this.snapshotSize = snapshotSize;
+            this.snapshotModified = snapshotModified;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof JournalHeader)) {
+                return false;
+            }
+            JournalHeader otherHeader = (JournalHeader) other;
+            return snapshotSize == otherHeader.snapshotSize && snapshotModified == otherHeader.snapshotModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(snapshotSize) * 31 + Long.hashCode(snapshotModified);
+        }
+    }
+}
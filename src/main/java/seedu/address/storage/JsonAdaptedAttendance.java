@@ -59,7 +59,7 @@ public class JsonAdaptedAttendance {
     public Attendance toModelType() throws IllegalValueException {
         try {
             AttendanceStatus attendanceStatus = AttendanceStatus.fromString(status);
-            return new Attendance(week, attendanceStatus);
+            return Attendance.of(week, attendanceStatus);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(e.getMessage());
         }
@@ -56,10 +56,8 @@ class JsonAdaptedConsultation {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Nusnetid.class.getSimpleName()));
         }
-        if (!Nusnetid.isValidNusnetid(nusnetId)) {
-            throw new IllegalValueException(Nusnetid.MESSAGE_CONSTRAINTS);
-        }
-        final Nusnetid modelNusnetid = new Nusnetid(nusnetId);
+        final Nusnetid modelNusnetid = Nusnetid.parse(nusnetId)
+                .orElseThrow(() -> new IllegalValueException(Nusnetid.MESSAGE_CONSTRAINTS));
 
         // converts from string to LocalDateTime object
         if (from == null) {
@@ -40,8 +40,8 @@ class JsonAdaptedGroup {
      */
     public JsonAdaptedGroup(Group source) {
         groupId = source.getGroupId().value;
-        studentNusnetids.addAll(source.getAllPersons().stream()
-                .map(p -> p.getNusnetid().value).collect(Collectors.toList()));
+        studentNusnetids.addAll(source.getStudentIds().stream()
+                .map(nusnetid -> nusnetid.value).collect(Collectors.toList()));
     }
 
     /**
@@ -54,10 +54,7 @@ class JsonAdaptedGroup {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     GroupId.class.getSimpleName()));
         }
-        if (!GroupId.isValidGroupId(groupId)) {
-            throw new IllegalValueException(GroupId.MESSAGE_CONSTRAINTS);
-        }
-        return new GroupId(groupId);
+        return GroupId.parse(groupId).orElseThrow(() -> new IllegalValueException(GroupId.MESSAGE_CONSTRAINTS));
     }
 
     public List<Nusnetid> getStudentNusnetidsAsIds() {
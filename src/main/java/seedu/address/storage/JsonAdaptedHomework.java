@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkStatus;
 
 /**
  * Jackson-friendly version of {@link Homework}.
@@ -51,8 +52,11 @@ public class JsonAdaptedHomework {
      * @throws IllegalValueException if the ID or status is invalid
      */
     public Homework toModelType() throws IllegalValueException {
+        if (status == null || !Homework.isValidStatus(status)) {
+            throw new IllegalValueException(Homework.MESSAGE_INVALID_STATUS);
+        }
         try {
-            return new Homework(id, status);
+            return Homework.of(id, HomeworkStatus.fromString(status));
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(e.getMessage());
         }
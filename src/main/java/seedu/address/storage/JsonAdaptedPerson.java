@@ -97,56 +97,47 @@ class JsonAdaptedPerson {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.parse(name)
+                .orElseThrow(() -> new IllegalValueException(Name.MESSAGE_CONSTRAINTS));
 
         Phone modelPhone = null;
         if (phone != null) {
-            if (!Phone.isValidPhone(phone)) { // kept as-is per existing implementation
-                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-            }
-            modelPhone = new Phone(phone);
+            modelPhone = Phone.parse(phone)
+                    .orElseThrow(() -> new IllegalValueException(Phone.MESSAGE_CONSTRAINTS));
         }
 
         Email modelEmail = null;
         if (email != null) {
-            if (!Email.isValidEmail(email)) {
-                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-            }
-            modelEmail = new Email(email);
+            modelEmail = Email.parse(email)
+                    .orElseThrow(() -> new IllegalValueException(Email.MESSAGE_CONSTRAINTS));
         }
 
         if (nusnetid == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Nusnetid.class.getSimpleName()));
         }
-        if (!Nusnetid.isValidNusnetid(nusnetid)) {
-            throw new IllegalValueException(Nusnetid.MESSAGE_CONSTRAINTS);
-        }
-        final Nusnetid modelNusnetid = new Nusnetid(nusnetid);
+        final Nusnetid modelNusnetid = Nusnetid.parse(nusnetid)
+                .orElseThrow(() -> new IllegalValueException(Nusnetid.MESSAGE_CONSTRAINTS));
 
         if (groupId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     GroupId.class.getSimpleName()));
         }
-        if (!GroupId.isValidGroupId(groupId)) {
-            throw new IllegalValueException(GroupId.MESSAGE_CONSTRAINTS);
-        }
-        final GroupId modelGroupId = new GroupId(groupId);
+        final GroupId modelGroupId = GroupId.parse(groupId)
+                .orElseThrow(() -> new IllegalValueException(GroupId.MESSAGE_CONSTRAINTS));
 
         if (telegram == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Telegram.class.getSimpleName()));
         }
-        if (!Telegram.isValidTelegram(telegram)) {
-            throw new IllegalValueException(Telegram.MESSAGE_CONSTRAINTS);
-        }
-        final Telegram modelTelegram = new Telegram(telegram);
+        final Telegram modelTelegram = Telegram.parse(telegram)
+                .orElseThrow(() -> new IllegalValueException(Telegram.MESSAGE_CONSTRAINTS));
 
         Map<Integer, Homework> homeworkMap = new HashMap<>();
         for (Map.Entry<Integer, JsonAdaptedHomework> entry : homework.entrySet()) {
+            if (entry.getKey() == null || !HomeworkTracker.isValidAssignmentId(entry.getKey())) {
+                throw new IllegalValueException("Assignment ID must be between 1 and 13.");
+            }
             homeworkMap.put(entry.getKey(), entry.getValue().toModelType());
         }
 
@@ -156,7 +147,7 @@ class JsonAdaptedPerson {
             int week = adaptedAttendance.getWeek();
             String status = adaptedAttendance.getStatus();
             AttendanceStatus status1 = AttendanceStatus.fromString(status);
-            modelAttendanceSheet.markAttendance(week, status1);
+            modelAttendanceSheet = modelAttendanceSheet.markAttendance(week, status1);
         }
 
         if (consultationStart == null) {
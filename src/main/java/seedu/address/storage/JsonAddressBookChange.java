@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of the persons and consultations changed between two versions of an address book.
+ * Groups are not recorded, as they are rebuilt from the persons' group ids when an address book is loaded.
+ */
+class JsonAddressBookChange {
+
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<Integer> personPositions = new ArrayList<>();
+    private final List<String> removedPersons = new ArrayList<>();
+    private final List<JsonAdaptedConsultation> consultations = new ArrayList<>();
+    private final List<JsonAdaptedConsultation> removedConsultations = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAddressBookChange} with the given changes.
+     * {@code persons} are added or replace the person with the same nusnetid, at the matching
+     * {@code personPositions} of the resulting person list.
+     */
+    @JsonCreator
+    public JsonAddressBookChange(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("personPositions") List<Integer> personPositions,
+            @JsonProperty("removedPersons") List<String> removedPersons,
+            @JsonProperty("consultations") List<JsonAdaptedConsultation> consultations,
+            @JsonProperty("removedConsultations") List<JsonAdaptedConsultation> removedConsultations) {
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (personPositions != null) {
+            this.personPositions.addAll(personPositions);
+        }
+        if (removedPersons != null) {
+            this.removedPersons.addAll(removedPersons);
+        }
+        if (consultations != null) {
+            this.consultations.addAll(consultations);
+        }
+        if (removedConsultations != null) {
+            this.removedConsultations.addAll(removedConsultations);
+        }
+    }
+
+    private JsonAddressBookChange() {}
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}.
+     * Persons are immutable, so a person in {@code after} is taken to be unchanged only if {@code before} holds the
+     * very same object.
+     */
+    static JsonAddressBookChange between(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+        JsonAddressBookChange change = new JsonAddressBookChange();
+
+        Map<Nusnetid, Person> unmatchedPersons = new HashMap<>();
+        for (Person person : before.getPersonList()) {
+            unmatchedPersons.put(person.getNusnetid(), person);
+        }
+        List<Person> afterPersons = after.getPersonList();
+        for (int i = 0; i < afterPersons.size(); i++) {
+            Person person = afterPersons.get(i);
+            if (unmatchedPersons.remove(person.getNusnetid()) != person) {
+                change.persons.add(new JsonAdaptedPerson(person));
+                change.personPositions.add(i);
+            }
+        }
+        unmatchedPersons.keySet().forEach(nusnetid -> change.removedPersons.add(nusnetid.value));
+
+        Set<Consultation> unmatchedConsultations = new HashSet<>(before.getConsultationList());
+        for (Consultation consultation : after.getConsultationList()) {
+            if (!unmatchedConsultations.remove(consultation)) {
+                change.consultations.add(new JsonAdaptedConsultation(consultation));
+            }
+        }
+        unmatchedConsultations.forEach(consultation ->
+                change.removedConsultations.add(new JsonAdaptedConsultation(consultation)));
+        return change;
+    }
+
+    /**
+     * Returns true if this change leaves an address book as it is.
+     */
+    boolean isEmpty() {
+        return persons.isEmpty() && removedPersons.isEmpty()
+                && consultations.isEmpty() && removedConsultations.isEmpty();
+    }
+
+    /**
+     * Applies this change to the address book being rebuilt by {@code replay}.
+     * Applying a change more than once has the same effect as applying it once.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded values.
+     */
+    void applyTo(Replay replay) throws IllegalValueException {
+        if (this.persons.size() != personPositions.size()) {
+            throw new IllegalValueException("Each changed person must have exactly one position.");
+        }
+        replay.removePersons(new HashSet<>(removedPersons));
+        // Positions are in increasing order, so each person is inserted after all persons that precede it
+        for (int i = 0; i < this.persons.size(); i++) {
+            replay.putPerson(this.persons.get(i).toModelType(), personPositions.get(i));
+        }
+
+        for (JsonAdaptedConsultation consultation : removedConsultations) {
+            replay.consultations.remove(consultation.toModelType());
+        }
+        for (JsonAdaptedConsultation consultation : this.consultations) {
+            replay.consultations.add(consultation.toModelType());
+        }
+    }
+
+    /**
+     * The persons and consultations of an address book being rebuilt from a snapshot and the changes after it.
+     * The position of each person is looked up by nusnetid in a map, which is rebuilt only after persons are removed
+     * or inserted before the end of the list, so replaying changes that update persons in place takes time
+     * proportional to the size of the changes rather than the number of persons.
+     */
+    static class Replay {
+        private final List<Person> persons;
+        private final Set<Consultation> consultations;
+        private Map<Nusnetid, Integer> positions;
+
+        Replay(List<Person> persons, List<Consultation> consultations) {
+            this.persons = new ArrayList<>(persons);
+            this.consultations = new LinkedHashSet<>(consultations);
+        }
+
+        List<Person> getPersons() {
+            return persons;
+        }
+
+        List<Consultation> getConsultations() {
+            return new ArrayList<>(consultations);
+        }
+
+        private void removePersons(Set<String> nusnetids) {
+            if (!nusnetids.isEmpty() && persons.removeIf(person -> nusnetids.contains(person.getNusnetid().value))) {
+                positions = null;
+            }
+        }
+
+        /**
+         * Replaces the person with the same nusnetid as {@code person}, or inserts {@code person} at
+         * {@code position} if there is none.
+         */
+        private void putPerson(Person person, int position) {
+            if (positions == null) {
+                positions = new HashMap<>();
+                for (int i = 0; i < persons.size(); i++) {
+                    positions.put(persons.get(i).getNusnetid(), i);
+                }
+            }
+            Integer existing = positions.get(person.getNusnetid());
+            if (existing != null) {
+                persons.set(existing, person);
+            } else if (position >= persons.size()) {
+                positions.put(person.getNusnetid(), persons.size());
+                persons.add(person);
+            } else {
+                persons.add(position, person);
+                positions = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book stored in the format of {@link JsonSerializableAddressBook} from a file as a stream.
+ * Each person and consultation is converted into the model as soon as it has been parsed, so the file is never held
+ * in memory as a whole, neither as text nor as a tree of adapted objects.
+ */
+class JsonAddressBookReader {
+
+    private static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Address book data must be a JSON object.";
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book stored at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return read(parser);
+        }
+    }
+
+    private static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        AddressBook addressBook = new AddressBook();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_ARRAY && field.equals("persons")) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedPerson person = parser.readValueAs(JsonAdaptedPerson.class);
+                    if (person != null) {
+                        JsonSerializableAddressBook.addPersonTo(addressBook, person);
+                    }
+                }
+            } else if (value == JsonToken.START_ARRAY && field.equals("consultations")) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedConsultation consultation = parser.readValueAs(JsonAdaptedConsultation.class);
+                    if (consultation != null) {
+                        JsonSerializableAddressBook.addConsultationTo(addressBook, consultation);
+                    }
+                }
+            } else {
+                // Groups are rebuilt from the persons' group ids, and unknown fields are ignored
+                parser.skipChildren();
+            }
+        }
+        return addressBook;
+    }
+}
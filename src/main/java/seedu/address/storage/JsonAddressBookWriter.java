@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Group;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book to a file in the format of {@link JsonSerializableAddressBook} as a stream.
+ * Each person, consultation and group is adapted and written out on its own, so saving allocates a bounded amount
+ * of memory however large the address book is. The generator buffers its output itself and hands it straight to the
+ * file channel.
+ */
+class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, replacing its contents, and forces it to the disk.
+     *
+     * @param isPrettyPrinted whether the file is indented for reading by people, or kept compact.
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, WRITE, CREATE, TRUNCATE_EXISTING);
+                JsonGenerator generator = JsonUtil.createGenerator(
+                        Channels.newOutputStream(channel), isPrettyPrinted)) {
+            write(addressBook, generator);
+            generator.flush();
+            channel.force(false);
+        }
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : addressBook.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("consultations");
+        for (Consultation consultation : addressBook.getConsultationList()) {
+            generator.writeObject(new JsonAdaptedConsultation(consultation));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("groups");
+        for (Group group : addressBook.getGroupList()) {
+            generator.writeObject(new JsonAdaptedGroup(group));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
@@ -10,7 +10,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
-import seedu.address.model.Group;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.person.Person;
@@ -78,26 +77,11 @@ class JsonSerializableAddressBook {
         AddressBook addressBook = new AddressBook();
         // Convert and add all students so that groups can refer to existing students
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            if (addressBook.hasGroup(person.getGroupId())) {
-                addressBook.getGroup(person.getGroupId()).addStudent(person);
-            } else {
-                Group newGroup = new Group(person.getGroupId());
-                newGroup.addStudent(person);
-                addressBook.addGroup(newGroup);
-            }
-            addressBook.addPerson(person);
+            addPersonTo(addressBook, jsonAdaptedPerson);
         }
         // Convert and add all consultations
         for (JsonAdaptedConsultation jsonAdaptedConsultation : consultations) {
-            Consultation consultation = jsonAdaptedConsultation.toModelType();
-            if (addressBook.hasConsultation(consultation)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CONSULTATION);
-            }
-            addressBook.addConsultation(consultation);
+            addConsultationTo(addressBook, jsonAdaptedConsultation);
         }
         /*
         // Convert and add all groups after students have been added so that
@@ -114,10 +98,9 @@ class JsonSerializableAddressBook {
                 if (nusIdStr == null) {
                     throw new IllegalValueException(MESSAGE_GROUP_CONTAINS_INVALID_NUSNETID);
                 }
-                if (!Nusnetid.isValidNusnetid(nusIdStr)) {
-                    throw new IllegalValueException(Nusnetid.MESSAGE_CONSTRAINTS);
-                }
-                Person student = addressBook.getPerson(new Nusnetid(nusIdStr));
+                Nusnetid nusnetid = Nusnetid.parse(nusIdStr)
+                        .orElseThrow(() -> new IllegalValueException(Nusnetid.MESSAGE_CONSTRAINTS));
+                Person student = addressBook.getPerson(nusnetid);
                 // person not found in address book
                 if (student == null) {
                     throw new IllegalValueException(MESSAGE_GROUP_REFERENCES_UNKNOWN_PERSON);
@@ -144,4 +127,33 @@ class JsonSerializableAddressBook {
         // if a student is in multiple groups, the group addition will fail
         return addressBook;
     }
+
+    /**
+     * Converts {@code jsonAdaptedPerson} and adds it to {@code addressBook}, which also records them as a member of
+     * their group.
+     *
+     * @throws IllegalValueException if the person is invalid or already in the address book.
+     */
+    static void addPersonTo(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedConsultation} and adds it to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the consultation is invalid or already in the address book.
+     */
+    static void addConsultationTo(AddressBook addressBook, JsonAdaptedConsultation jsonAdaptedConsultation)
+            throws IllegalValueException {
+        Consultation consultation = jsonAdaptedConsultation.toModelType();
+        if (addressBook.hasConsultation(consultation)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CONSULTATION);
+        }
+        addressBook.addConsultation(consultation);
+    }
 }
@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -28,6 +30,22 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the path of every file that may be written to keep the address book whose data file is at
+     * {@code addressBookFilePath}, whether it is kept in json or in binary, journaled or not.
+     */
+    public static List<Path> getAddressBookFilePaths(Path addressBookFilePath) {
+        List<Path> filePaths = new ArrayList<>();
+        for (Path dataFilePath : List.of(addressBookFilePath,
+                BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath))) {
+            filePaths.add(dataFilePath);
+            filePaths.add(FileAddressBookStorage.getRollbackFilePath(dataFilePath));
+            filePaths.add(FileAddressBookStorage.getTemporaryFilePath(dataFilePath));
+            filePaths.add(JournaledAddressBookStorage.getJournalFilePath(dataFilePath));
+        }
+        return filePaths;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -75,4 +93,10 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        logger.fine("Attempting to flush data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.flushAddressBook();
+    }
+
 }
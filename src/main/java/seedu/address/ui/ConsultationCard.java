@@ -4,9 +4,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.Model;
 import seedu.address.model.event.Consultation;
-import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of a {@code Consultation}.
@@ -15,7 +13,9 @@ public class ConsultationCard extends UiPart<Region> {
 
     private static final String FXML = "ConsultationListCard.fxml";
 
-    public final Consultation consultation;
+    private static final String UNKNOWN_STUDENT = "(Unknown student)";
+
+    private Consultation consultation;
 
     @FXML
     private HBox cardPane;
@@ -30,21 +30,42 @@ public class ConsultationCard extends UiPart<Region> {
     // Add other fields as needed
 
     /**
-     * Creates a {@code ConsultationCard} with the given {@code Consultation} and index to display.
+     * Creates an empty {@code ConsultationCard}, to be filled in through {@link #setConsultation}.
      */
-    public ConsultationCard(Consultation consultation, int displayedIndex, Model model) {
+    public ConsultationCard() {
         super(FXML);
+    }
+
+    /**
+     * Creates a {@code ConsultationCard} with the given {@code Consultation} and index to display.
+     * {@code studentName} is the name of the student having the consultation, or null if there is no such student.
+     */
+    public ConsultationCard(Consultation consultation, int displayedIndex, String studentName) {
+        this();
+        setConsultation(consultation, displayedIndex, studentName);
+    }
+
+    /**
+     * Shows {@code consultation} with the index {@code displayedIndex} on this card, in place of the consultation
+     * shown before. {@code studentName} is the name of the student having the consultation, or null if there is
+     * no such student.
+     */
+    public void setConsultation(Consultation consultation, int displayedIndex, String studentName) {
         this.consultation = consultation;
         id.setText(displayedIndex + ". ");
         consultationTime.setText(consultation.showConsultationTime());
 
-        Person student = model.findPerson(consultation.getNusnetid());
-        if (student != null) {
-            studentName.setText(student.getName().fullName);
+        if (studentName != null) {
+            this.studentName.setText(studentName);
             studentNusNetId.setText(consultation.getNusnetid().value);
         } else {
-            studentName.setText("(Unknown student)");
+            this.studentName.setText(UNKNOWN_STUDENT);
+            studentNusNetId.setText("");
         }
         // Set other fields as needed
     }
+
+    public Consultation getConsultation() {
+        return consultation;
+    }
 }
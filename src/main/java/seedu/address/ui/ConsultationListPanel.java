@@ -1,5 +1,9 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -7,9 +11,13 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.model.Model;
 import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
 
 /**
  * Panel containing the list of consultations.
+ * The names of the students are kept in a map by NUSNET ID, which is filled in once from the person list and then
+ * updated from the changes to it, so drawing a consultation never searches the persons.
  */
 public class ConsultationListPanel extends UiPart<Region> {
     private static final String FXML = "ConsultationListPanel.fxml";
@@ -17,22 +25,56 @@ public class ConsultationListPanel extends UiPart<Region> {
     @FXML
     private ListView<Consultation> consultationListView;
 
-    private Model model;
+    private final Map<Nusnetid, String> studentNames = new HashMap<>();
 
     /**
      * Creates a {@code ConsultationListPanel} with the given {@code ObservableList}.
      */
     public ConsultationListPanel(ObservableList<Consultation> consultationList, Model model) {
         super(FXML);
+        ObservableList<Person> personList = model.getAddressBook().getPersonList();
+        for (Person person : personList) {
+            studentNames.put(person.getNusnetid(), person.getName().fullName);
+        }
+        personList.addListener(this::updateStudentNames);
+
         consultationListView.setItems(consultationList);
         consultationListView.setCellFactory(listView -> new ConsultationListViewCell());
-        this.model = model;
+    }
+
+    /**
+     * Applies the persons removed and added in {@code change} to the student names, and redraws the consultations
+     * shown if any name was changed or removed. Persons replaced by a copy with the same name, as when attendance
+     * or homework is marked, leave the names and the consultations as they are.
+     */
+    private void updateStudentNames(ListChangeListener.Change<? extends Person> change) {
+        Map<Nusnetid, String> removedNames = new HashMap<>();
+        boolean isNameChanged = false;
+        while (change.next()) {
+            for (Person removed : change.getRemoved()) {
+                String removedName = studentNames.remove(removed.getNusnetid());
+                if (removedName != null) {
+                    removedNames.put(removed.getNusnetid(), removedName);
+                }
+            }
+            for (Person added : change.getAddedSubList()) {
+                String name = added.getName().fullName;
+                studentNames.put(added.getNusnetid(), name);
+                isNameChanged |= !name.equals(removedNames.remove(added.getNusnetid()));
+            }
+        }
+        if (isNameChanged || !removedNames.isEmpty()) {
+            consultationListView.refresh();
+        }
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Consultation} using a {@code ConsultationCard}.
+     * Each cell loads its card once and shows each consultation it is given on that same card.
      */
     class ConsultationListViewCell extends ListCell<Consultation> {
+        private ConsultationCard consultationCard;
+
         @Override
         protected void updateItem(Consultation consultation, boolean empty) {
             super.updateItem(consultation, empty);
@@ -41,7 +83,12 @@ public class ConsultationListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ConsultationCard(consultation, getIndex() + 1, model).getRoot());
+                if (consultationCard == null) {
+                    consultationCard = new ConsultationCard();
+                }
+                consultationCard.setConsultation(consultation, getIndex() + 1,
+                        studentNames.get(consultation.getNusnetid()));
+                setGraphic(consultationCard.getRoot());
             }
         }
     }
@@ -19,11 +19,12 @@ public class HelpWindow extends UiPart<Stage> {
     public static final String COMMAND_SYNTAX = "Here is the list of all command syntax:\n"
             + "- display help message: help\n"
             + "- list students: list\n"
-            + "- list consultations: list_consult\n"
+            + "- list consultations: list_consult [from/START_TIME to/END_TIME]\n"
             + "- add student: add_student n/NAME i/NUSNETID t/TELEGRAM g/GROUPID [p/PHONE] [e/EMAIL]\n"
             + "- edit student: edit_student INDEX [n/NAME] [i/NUSNETID] [t/TELEGRAM] [g/GROUPID] [p/PHONE] [e/EMAIL]\n"
             + "- delete student: delete INDEX\n"
             + "- find student by name: find KEYWORD \n"
+            + "- find student by id, telegram or email prefix: find i/PREFIX or find t/PREFIX or find e/PREFIX\n"
             + "- add homework: add_hw i/NETID a/ASSIGNMENT_ID or add_hw i/all a/ASSIGNMENT_ID\n"
             + "- mark homework: mark_hw i/NUSNETID a/ASSIGNMENT_ID status/complete|incomplete|late\n"
             + "- delete homework: delete_hw i/NUSNETID a/ASSIGNMENT_ID or delete_hw i/all a/ASSIGNMENT_ID\n"
@@ -35,6 +36,9 @@ public class HelpWindow extends UiPart<Stage> {
             + "- create group: create_group g/GROUPID\n"
             + "- add student to group: add_to_group i/NUSNETID g/GROUPID\n"
             + "- find students by group: find_group g/GROUPID\n"
+            + "- import students from a CSV file: import FILE_PATH\n"
+            + "- export listed students to a CSV file: export FILE_PATH\n"
+            + "- run commands from a file: batch FILE_PATH\n"
             + "- clear all entries: clear\n"
             + "- exit: exit\n";
 
@@ -1,15 +1,26 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.person.Attendance;
+import seedu.address.model.person.AttendanceSheet;
 import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.HomeworkTracker;
 import seedu.address.model.person.Person;
 
 /**
@@ -19,6 +30,21 @@ public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
 
+    private static final String WEEK_STYLE_CLASS = "attendance_week";
+    private static final String UNMARKED_WEEK_STYLE_CLASS = "attendance_unmarked";
+    private static final String HOMEWORK_STYLE_CLASS = "homework_chip";
+    private static final String NO_HOMEWORK_STYLE_CLASS = "homework_none";
+
+    /** Style classes of the attendance statuses, indexed by ordinal. */
+    private static final List<String> ATTENDANCE_STYLE_CLASSES = Stream.of(AttendanceStatus.values())
+            .map(status -> "attendance_" + status.getStatus())
+            .collect(Collectors.toUnmodifiableList());
+
+    /** Style classes of the homework statuses, indexed by ordinal. */
+    private static final List<String> HOMEWORK_STYLE_CLASSES = Stream.of(HomeworkStatus.values())
+            .map(status -> "homework_" + status.getStatus())
+            .collect(Collectors.toUnmodifiableList());
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -27,7 +53,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -64,123 +90,115 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private HBox consultationBox;
 
+    /** One label per week, created once and restyled each time the card shows another person. */
+    private final List<Label> weekLabels = new ArrayList<>();
+    /** One label per assignment, of which only as many as the person has are shown. */
+    private final List<Label> homeworkLabels = new ArrayList<>();
+    private final Label noHomeworkLabel = new Label("No homework");
+
+    /**
+     * Creates an empty {@code PersonCard}, to be shown with a person through {@link #setPerson(Person, int)}.
+     * The nodes of the card are created here once, so that the card can be reused for other persons.
+     */
+    public PersonCard() {
+        super(FXML);
+        for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+            Label weekLabel = new Label(String.valueOf(week));
+            weekLabel.getStyleClass().addAll(WEEK_STYLE_CLASS, UNMARKED_WEEK_STYLE_CLASS);
+            weekLabels.add(weekLabel);
+        }
+        attendanceContainer.getChildren().setAll(weekLabels);
+
+        noHomeworkLabel.getStyleClass().addAll(HOMEWORK_STYLE_CLASS, NO_HOMEWORK_STYLE_CLASS);
+        homeworkContainer.getChildren().add(noHomeworkLabel);
+        for (int id = 1; id <= HomeworkTracker.MAX_ASSIGNMENTS; id++) {
+            Label homeworkLabel = new Label();
+            homeworkLabel.getStyleClass().add(HOMEWORK_STYLE_CLASS);
+            setShown(homeworkLabel, false);
+            homeworkLabels.add(homeworkLabel);
+        }
+        homeworkContainer.getChildren().addAll(homeworkLabels);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Shows {@code person} with the index {@code displayedIndex} on this card, in place of the person shown before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
-        if (person.getPhone().isPresent()) {
-            phone.setText(person.getPhone().get().value);
-            phoneBox.setVisible(true);
-            phoneBox.setManaged(true);
-        } else {
-            phoneBox.setVisible(false);
-            phoneBox.setManaged(false);
-        }
-        if (person.getEmail().isPresent()) {
-            email.setText(person.getEmail().get().value);
-            emailBox.setVisible(true);
-            emailBox.setManaged(true);
-        } else {
-            emailBox.setVisible(false);
-            emailBox.setManaged(false);
-        }
+        phone.setText(person.getPhone().map(personPhone -> personPhone.value).orElse(""));
+        setShown(phoneBox, person.getPhone().isPresent());
+        email.setText(person.getEmail().map(personEmail -> personEmail.value).orElse(""));
+        setShown(emailBox, person.getEmail().isPresent());
         nusnetid.setText(person.getNusnetid().value);
         telegram.setText(person.getTelegram().value);
         groupId.setText(person.getGroupId().value);
         showAttendance();
-        groupId.setText(person.getGroupId().value);
         showHomework();
-        if (person.getConsultation().isPresent()) {
-            consultation.setText(person.getConsultation()
-                    .map(Consultation::showConsultationTime).get());
-            consultationBox.setVisible(true);
-            consultationBox.setManaged(true);
-        } else {
-            consultationBox.setVisible(false);
-            consultationBox.setManaged(false);
-        }
+        consultation.setText(person.getConsultation().map(Consultation::showConsultationTime).orElse(""));
+        setShown(consultationBox, person.getConsultation().isPresent());
     }
 
-    private void showAttendance() {
-        attendanceContainer.getChildren().clear();
+    public Person getPerson() {
+        return person;
+    }
 
-        if (person.getAttendanceSheet() == null) {
-            return;
-        }
-        for (int week = 2; week <= 13; week++) {
-            Label weekBox = new Label(String.valueOf(week));
-            weekBox.setMinWidth(35);
-            weekBox.setMinHeight(35);
-            weekBox.setMaxWidth(35);
-            weekBox.setMaxHeight(35);
-            weekBox.setAlignment(javafx.geometry.Pos.CENTER);
-            String baseStyle = "-fx-text-fill: white; -fx-font-weight: bold; "
-                    + "-fx-background-radius: 5; -fx-border-radius: 5; "
-                    + "-fx-border-color: #cccccc; -fx-border-width: 1;";
-            Optional<Attendance> attendanceOpt = person.getAttendanceSheet().getAttendanceForWeek(week);
-            if (attendanceOpt.isPresent()) {
-                Attendance attendance = attendanceOpt.get();
-                AttendanceStatus status = attendance.getAttendanceStatus();
-                String backgroundColor;
-                switch (status) {
-                case PRESENT:
-                    backgroundColor = "-fx-background-color: #4CAF50;";
-                    break;
-                case ABSENT:
-                    backgroundColor = "-fx-background-color: #F44336;";
-                    break;
-                case EXCUSED:
-                    backgroundColor = "-fx-background-color: #FFC107; -fx-text-fill: #333333;";
-                    break;
-                default:
-                    backgroundColor = "-fx-background-color: #9E9E9E;";
-                }
-                weekBox.setStyle(baseStyle + backgroundColor);
-            } else {
-                weekBox.setStyle(baseStyle + "-fx-background-color: grey;");
-            }
-            attendanceContainer.getChildren().add(weekBox);
+    private void showAttendance() {
+        AttendanceSheet attendanceSheet = person.getAttendanceSheet();
+        for (int i = 0; i < weekLabels.size(); i++) {
+            Optional<Attendance> attendance = attendanceSheet == null
+                    ? Optional.empty()
+                    : attendanceSheet.getAttendanceForWeek(AttendanceSheet.FIRST_WEEK + i);
+            String statusStyleClass = attendance
+                    .map(weekAttendance -> ATTENDANCE_STYLE_CLASSES.get(weekAttendance.getAttendanceStatus().ordinal()))
+                    .orElse(UNMARKED_WEEK_STYLE_CLASS);
+            setStatusStyleClass(weekLabels.get(i), statusStyleClass);
         }
     }
 
     private void showHomework() {
-        if (person.getHomeworkTracker() == null) {
-            return;
+        HomeworkTracker homeworkTracker = person.getHomeworkTracker();
+        Collection<Homework> homework = homeworkTracker == null ? List.of() : homeworkTracker.asMap().values();
+        setShown(noHomeworkLabel, homeworkTracker != null && homework.isEmpty());
+
+        Iterator<Homework> homeworkToShow = homework.iterator();
+        for (Label homeworkLabel : homeworkLabels) {
+            if (!homeworkToShow.hasNext()) {
+                setShown(homeworkLabel, false);
+                continue;
+            }
+            Homework hw = homeworkToShow.next();
+            homeworkLabel.setText("HW" + hw.getId());
+            setStatusStyleClass(homeworkLabel, HOMEWORK_STYLE_CLASSES.get(hw.getHomeworkStatus().ordinal()));
+            setShown(homeworkLabel, true);
         }
+    }
 
-        if (person.getHomeworkTracker().asMap().isEmpty()) {
-            Label placeholder = new Label("No homework");
-            placeholder.setStyle("-fx-background-color: #d3d3d3; -fx-text-fill: black; "
-                    + "-fx-padding: 3 6; -fx-background-radius: 6; -fx-font-size: 11px;");
-            homeworkContainer.getChildren().add(placeholder);
-            return;
+    /**
+     * Replaces the status style class of {@code label}, which is always its last style class, with
+     * {@code statusStyleClass}. The label is left alone if it already has that style class, so that its style is
+     * not recomputed.
+     */
+    private static void setStatusStyleClass(Label label, String statusStyleClass) {
+        List<String> styleClasses = label.getStyleClass();
+        String current = styleClasses.get(styleClasses.size() - 1);
+        if (!current.equals(statusStyleClass)) {
+            styleClasses.set(styleClasses.size() - 1, statusStyleClass);
         }
+    }
 
-        person.getHomeworkTracker().asMap().forEach((id, hw) -> {
-            Label hwLabel = new Label("HW" + hw.getId());
-            hwLabel.setStyle("-fx-padding: 3 8; -fx-background-radius: 6; -fx-font-size: 11px;");
-
-            switch (hw.getStatus().toLowerCase()) {
-            case "complete":
-                hwLabel.setStyle(hwLabel.getStyle()
-                        + "-fx-background-color: #b2fab4; -fx-text-fill: #2e7d32;");
-                break;
-            case "late":
-                hwLabel.setStyle(hwLabel.getStyle()
-                        + "-fx-background-color: #fff59d; -fx-text-fill: #996c00;");
-                break;
-            default: // incomplete
-                hwLabel.setStyle(hwLabel.getStyle()
-                        + "-fx-background-color: #ffcccb; -fx-text-fill: #b71c1c;");
-                break;
-            }
-
-            homeworkContainer.getChildren().add(hwLabel);
-        });
+    private static void setShown(Node node, boolean isShown) {
+        node.setVisible(isShown);
+        node.setManaged(isShown);
     }
 
     // Only for testing
@@ -0,0 +1,44 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_unquotedFields_splitAtCommas() {
+        assertEquals(List.of("a", " b", "", "c"), CsvUtil.splitLine("a, b,,c"));
+        assertEquals(List.of(""), CsvUtil.splitLine(""));
+    }
+
+    @Test
+    public void splitLine_quotedFields_keepCommasAndQuotes() {
+        assertEquals(List.of("Lee, Ann", "say \"hi\"", "x"), CsvUtil.splitLine("\"Lee, Ann\",\"say \"\"hi\"\"\",x"));
+    }
+
+    @Test
+    public void splitLine_unclosedQuote_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.splitLine("\"Lee, Ann"));
+    }
+
+    @Test
+    public void appendField_specialCharacters_quotedOnlyWhenNeeded() {
+        StringBuilder line = new StringBuilder();
+        CsvUtil.appendField(line, "plain");
+        CsvUtil.appendField(line, "");
+        CsvUtil.appendField(line, "Lee, Ann");
+        CsvUtil.appendField(line, "say \"hi\"");
+        CsvUtil.appendField(line, " padded");
+        assertEquals("plain\"Lee, Ann\"\"say \"\"hi\"\"\"\" padded\"", line.toString());
+        assertEquals(List.of("Lee, Ann"), CsvUtil.splitLine(line.substring(5, 15)));
+    }
+
+    @Test
+    public void splitLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitLine(null));
+    }
+}
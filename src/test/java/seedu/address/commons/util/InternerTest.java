@@ -0,0 +1,36 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("T01");
+        String second = new String("T01");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(first, interner.intern(new String("T01")));
+    }
+
+    @Test
+    public void intern_differentValues_returnsEachValue() {
+        String first = new String("T01");
+        String second = new String("T02");
+        assertSame(first, interner.intern(first));
+        assertSame(second, interner.intern(second));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+}
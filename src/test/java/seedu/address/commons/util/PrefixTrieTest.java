@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie<Integer> trie = new PrefixTrie<>();
+
+    @Test
+    public void findByPrefix_nullPrefix_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.findByPrefix(null));
+    }
+
+    @Test
+    public void findByPrefix_sharedPrefixes_returnsValuesUnderPrefix() {
+        trie.add("e1234567", 1);
+        trie.add("e1234568", 2);
+        trie.add("e12", 3);
+        trie.add("e99", 4);
+
+        assertEquals(Set.of(1, 2, 3, 4), trie.findByPrefix(""));
+        assertEquals(Set.of(1, 2, 3, 4), trie.findByPrefix("e"));
+        assertEquals(Set.of(1, 2, 3), trie.findByPrefix("e12"));
+        assertEquals(Set.of(1, 2), trie.findByPrefix("e1234"));
+        assertEquals(Set.of(2), trie.findByPrefix("e1234568"));
+
+        // prefix ending part of the way along an edge, or leaving it
+        assertEquals(Set.of(4), trie.findByPrefix("e9"));
+        assertEquals(Set.of(), trie.findByPrefix("e1235"));
+
+        // prefix longer than every key
+        assertEquals(Set.of(), trie.findByPrefix("e123456789"));
+    }
+
+    @Test
+    public void add_sameKeyTwice_keepsBothValues() {
+        trie.add("@al", 1);
+        trie.add("@al", 2);
+        assertEquals(Set.of(1, 2), trie.findByPrefix("@a"));
+    }
+
+    @Test
+    public void remove_values_onlyRemovesGivenValue() {
+        trie.add("alice", 1);
+        trie.add("alicia", 2);
+        trie.add("al", 3);
+
+        assertFalse(trie.remove("alic", 1));
+        assertFalse(trie.remove("alice", 2));
+
+        assertTrue(trie.remove("al", 3));
+        assertEquals(Set.of(1, 2), trie.findByPrefix("al"));
+
+        assertTrue(trie.remove("alice", 1));
+        assertEquals(Set.of(2), trie.findByPrefix("alic"));
+        assertEquals(Set.of(), trie.findByPrefix("alice"));
+
+        // edges merged by the removals still lead to the remaining key
+        trie.add("alicia", 4);
+        assertEquals(Set.of(2, 4), trie.findByPrefix("a"));
+    }
+
+    @Test
+    public void clear_removesAllValues() {
+        trie.add("bob", 1);
+        trie.add("", 2);
+        trie.clear();
+        assertEquals(Set.of(), trie.findByPrefix(""));
+    }
+}
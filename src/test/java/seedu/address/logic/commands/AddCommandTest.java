@@ -8,9 +8,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +28,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.person.GroupId;
+import seedu.address.model.person.IdentityPrefixPredicate;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -124,11 +127,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Path> getDataFilePaths() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setDataFilePaths(List<Path> dataFilePaths) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -167,6 +185,11 @@ public class AddCommandTest {
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Person> updatePersons(Predicate<Person> predicate, UnaryOperator<Person> update) {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public Person markAttendance(Nusnetid nusnetid, int week, seedu.address.model.person.AttendanceStatus status)
                 throws CommandException {
@@ -214,6 +237,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByPrefix(IdentityPrefixPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Group> getGroupList() {
             throw new AssertionError("This method should not be called.");
@@ -233,6 +266,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addConsultation(Consultation consultation) {
             throw new AssertionError("This method should not be called.");
@@ -252,6 +290,11 @@ public class AddCommandTest {
         public void updateFilteredConsultationList(Predicate<Consultation> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredConsultationListBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public Group getGroup(GroupId groupId) {
             throw new AssertionError("This method should not be called.");
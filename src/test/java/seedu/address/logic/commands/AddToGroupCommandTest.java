@@ -7,8 +7,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +25,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.person.GroupId;
+import seedu.address.model.person.IdentityPrefixPredicate;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
@@ -102,10 +105,22 @@ public class AddToGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
         @Override
+        public List<Path> getDataFilePaths() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
+        public void setDataFilePaths(List<Path> dataFilePaths) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
         public void addPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
         @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
         }
@@ -134,6 +149,11 @@ public class AddToGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> updatePersons(Predicate<Person> predicate, UnaryOperator<Person> update) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addHomework(Nusnetid nusnetId, int assignmentId) throws CommandException {
             throw new AssertionError("This method should not be called.");
@@ -182,6 +202,15 @@ public class AddToGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
         @Override
+        public void updateFilteredPersonListByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByPrefix(IdentityPrefixPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
         public List<Group> getGroupList() {
             throw new AssertionError("This method should not be called.");
         }
@@ -198,6 +227,10 @@ public class AddToGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
         @Override
+        public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
         public void addConsultation(Consultation consultation) {
             throw new AssertionError("This method should not be called.");
         }
@@ -214,6 +247,10 @@ public class AddToGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
         @Override
+        public void updateFilteredConsultationListBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
         public Group getGroup(GroupId groupId) {
             throw new AssertionError("This method should not be called.");
         }
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Nusnetid;
+
+public class BatchCommandTest {
+
+    private static final Nusnetid UNKNOWN_NUSNETID = new Nusnetid("E0000000");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_allChangesKept() throws Exception {
+        BatchCommand batchCommand = new BatchCommand(Map.of(
+                1, new MarkAttendanceCommand(ALICE.getNusnetid(), 2, AttendanceStatus.PRESENT),
+                3, new MarkAttendanceCommand(BENSON.getNusnetid(), 2, AttendanceStatus.ABSENT)));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.markAttendance(ALICE.getNusnetid(), 2, AttendanceStatus.PRESENT);
+        expectedModel.markAttendance(BENSON.getNusnetid(), 2, AttendanceStatus.ABSENT);
+
+        assertCommandSuccess(batchCommand, model, String.format(BatchCommand.MESSAGE_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_noChangesKept() {
+        BatchCommand batchCommand = new BatchCommand(Map.of(
+                1, new MarkAttendanceCommand(ALICE.getNusnetid(), 2, AttendanceStatus.PRESENT),
+                2, new MarkAttendanceCommand(UNKNOWN_NUSNETID, 2, AttendanceStatus.PRESENT),
+                3, new MarkAttendanceCommand(BENSON.getNusnetid(), 2, AttendanceStatus.ABSENT)));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                MarkAttendanceCommand.MESSAGE_STUDENT_NOT_FOUND));
+    }
+
+    @Test
+    public void equals() {
+        Command markAlice = new MarkAttendanceCommand(ALICE.getNusnetid(), 2, AttendanceStatus.PRESENT);
+        Command markBenson = new MarkAttendanceCommand(BENSON.getNusnetid(), 2, AttendanceStatus.PRESENT);
+        BatchCommand batchCommand = new BatchCommand(Map.of(1, markAlice, 2, markBenson));
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(Map.of(1, markAlice, 2, markBenson))));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different order of commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Map.of(1, markBenson, 2, markAlice))));
+    }
+}
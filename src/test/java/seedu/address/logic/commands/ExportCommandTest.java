@@ -0,0 +1,121 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ImportCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_filteredList_exportsListedStudents() throws Exception {
+        Person alice = new PersonBuilder(ALICE).withName("Alice, Pauline")
+                .withAttendanceSheet(new AttendanceSheet().markAttendance(2, AttendanceStatus.PRESENT)
+                        .markAttendance(13, AttendanceStatus.EXCUSED))
+                .withAddedHomework(1).withAddedHomework(13).build()
+                .withUpdatedHomework(13, Homework.STATUS_LATE);
+        Model model = new ModelManager();
+        model.addPerson(alice);
+        model.addPerson(BENSON);
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Path filePath = testFolder.resolve("reports").resolve("T01.csv");
+
+        CommandResult result = new ExportCommand(filePath).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, filePath), result.getFeedbackToUser());
+        String expectedRow = "\"Alice, Pauline\",E1234567,@alicece,T01,94351253,alice@u.nus.edu,"
+                + "present" + ",".repeat(11) + "excused,"
+                + "incomplete" + ",".repeat(12) + "late";
+        assertEquals(List.of(ExportCommand.HEADER, expectedRow), Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void execute_exportedFile_importsSameStudents() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path filePath = testFolder.resolve("class.csv");
+        new ExportCommand(filePath).execute(model);
+
+        Map<Integer, Person> expectedPersonsByRow = new HashMap<>();
+        List<Person> typicalPersons = getTypicalPersons();
+        for (int i = 0; i < typicalPersons.size(); i++) {
+            expectedPersonsByRow.put(i + 2, typicalPersons.get(i));
+        }
+        assertEquals(new ImportCommand(expectedPersonsByRow, Map.of()),
+                new ImportCommandParser().parse(filePath.toString()));
+    }
+
+    @Test
+    public void execute_directoryPath_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertThrows(CommandException.class, () -> new ExportCommand(testFolder).execute(model));
+    }
+
+    @Test
+    public void execute_dataFilePath_throwsCommandException() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        Path dataFilePath = testFolder.resolve("data").resolve("addressbook.json");
+        userPrefs.setAddressBookFilePath(dataFilePath);
+        Files.createDirectories(dataFilePath.getParent());
+        Files.writeString(dataFilePath, "{}");
+        Model model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        model.setDataFilePaths(List.of(testFolder.resolve("data").resolve("addressbook.json.bak"),
+                testFolder.resolve("data").resolve("addressbook.json.journal"),
+                testFolder.resolve("data").resolve("addressbook.bin")));
+
+        Path sameDataFilePath = testFolder.resolve("data").resolve("..").resolve("data").resolve("addressbook.json");
+        for (Path filePath : List.of(sameDataFilePath, testFolder.resolve("data").resolve("addressbook.json.bak"),
+                testFolder.resolve("data").resolve("addressbook.json.journal"),
+                testFolder.resolve("data").resolve("addressbook.bin"))) {
+            assertCommandFailure(new ExportCommand(filePath), model,
+                    String.format(ExportCommand.MESSAGE_DATA_FILE, filePath));
+        }
+        assertEquals("{}", Files.readString(dataFilePath));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Path.of("a.csv"));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Path.of("a.csv"))));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("b.csv"))));
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.IdentityPrefixPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
@@ -74,6 +75,26 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_prefixOfTelegram_onePersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        IdentityPrefixPredicate predicate =
+                new IdentityPrefixPredicate(IdentityPrefixPredicate.Field.TELEGRAM, "@CARL");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_prefixOfNusnetid_multiplePersonsFound() {
+        IdentityPrefixPredicate predicate =
+                new IdentityPrefixPredicate(IdentityPrefixPredicate.Field.NUSNETID, "e123456");
+        FindCommand command = new FindCommand(predicate);
+        command.execute(model);
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
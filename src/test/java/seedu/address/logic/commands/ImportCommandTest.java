@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ImportCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_newStudents_allAdded() {
+        ImportCommand importCommand = new ImportCommand(Map.of(2, AMY, 3, BOB), Map.of());
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+
+        assertCommandSuccess(importCommand, model, String.format(ImportCommand.MESSAGE_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_existingStudentAndInvalidRow_othersAddedAndRowsReported() {
+        ImportCommand importCommand = new ImportCommand(Map.of(2, ALICE, 4, BOB), Map.of(3, "Invalid row."));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(BOB));
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1)
+                + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 2)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, ImportCommand.MESSAGE_DUPLICATE_PERSON)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, "Invalid row.");
+
+        assertCommandSuccess(importCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Map.of(2, AMY), Map.of(3, "Invalid row."));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Map.of(2, AMY), Map.of(3, "Invalid row."))));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different rows -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Map.of(2, AMY), Map.of())));
+        assertFalse(importCommand.equals(new ImportCommand(Map.of(2, BOB), Map.of(3, "Invalid row."))));
+    }
+}
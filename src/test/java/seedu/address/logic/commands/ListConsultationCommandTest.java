@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Nusnetid;
+
+/**
+ * Contains integration tests (interaction with the Model) for ListConsultationCommand.
+ */
+public class ListConsultationCommandTest {
+
+    private static final Consultation MORNING = consultation("E1111111", 9, 10);
+    private static final Consultation AFTERNOON = consultation("E2222222", 14, 16);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addConsultation(MORNING);
+        model.addConsultation(AFTERNOON);
+    }
+
+    @Test
+    public void execute_window_showsOnlyOverlappingConsultations() {
+        CommandResult result = new ListConsultationCommand(time(15), time(18)).execute(model);
+
+        assertEquals(String.format(ListConsultationCommand.MESSAGE_SUCCESS_BETWEEN, 1,
+                "2025-01-01 15:00", "2025-01-01 18:00"), result.getFeedbackToUser());
+        assertEquals(List.of(AFTERNOON), model.getFilteredConsultationList());
+    }
+
+    @Test
+    public void execute_windowAfterConsultationAdded_showsNewConsultation() {
+        new ListConsultationCommand(time(8), time(12)).execute(model);
+        Consultation lateMorning = consultation("E3333333", 11, 12);
+        model.addConsultation(lateMorning);
+        model.updateFilteredConsultationListBetween(time(8), time(12));
+
+        assertEquals(List.of(MORNING, lateMorning), model.getFilteredConsultationList());
+    }
+
+    @Test
+    public void execute_noWindow_showsAllConsultations() {
+        new ListConsultationCommand(time(15), time(18)).execute(model);
+        CommandResult result = new ListConsultationCommand().execute(model);
+
+        assertEquals(ListConsultationCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(List.of(MORNING, AFTERNOON), model.getFilteredConsultationList());
+    }
+
+    @Test
+    public void equals() {
+        ListConsultationCommand window = new ListConsultationCommand(time(8), time(12));
+
+        assertTrue(window.equals(window));
+        assertTrue(window.equals(new ListConsultationCommand(time(8), time(12))));
+        assertTrue(new ListConsultationCommand().equals(new ListConsultationCommand()));
+
+        assertFalse(window.equals(null));
+        assertFalse(window.equals(new ListConsultationCommand()));
+        assertFalse(window.equals(new ListConsultationCommand(time(8), time(13))));
+    }
+
+    private static LocalDateTime time(int hour) {
+        return LocalDateTime.of(2025, 1, 1, hour, 0);
+    }
+
+    private static Consultation consultation(String nusnetid, int fromHour, int toHour) {
+        return new Consultation(new Nusnetid(nusnetid), time(fromHour), time(toHour));
+    }
+}
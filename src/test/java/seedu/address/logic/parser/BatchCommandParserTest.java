@@ -0,0 +1,97 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.MarkAttendanceCommand;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Nusnetid;
+
+public class BatchCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private BatchCommandParser parser = new BatchCommandParser();
+
+    @Test
+    public void parse_validFile_returnsBatchCommand() throws Exception {
+        Path filePath = writeBatchFile("# week 2", "mark_attendance i/E1234567 w/2 status/present", "",
+                "  mark_attendance i/E1234568 w/2 status/absent  ");
+        BatchCommand expectedCommand = new BatchCommand(Map.of(
+                2, new MarkAttendanceCommand(new Nusnetid("E1234567"), 2, AttendanceStatus.PRESENT),
+                4, new MarkAttendanceCommand(new Nusnetid("E1234568"), 2, AttendanceStatus.ABSENT)));
+
+        assertParseSuccess(parser, " " + filePath, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() throws Exception {
+        Path filePath = writeBatchFile("mark_attendance i/E1234567 w/2 status/present", "unknown_command");
+        assertParseFailure(parser, " " + filePath,
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_nestedBatch_throwsParseException() throws Exception {
+        Path innerFilePath = writeBatchFile("mark_attendance i/E1234567 w/2 status/present");
+        Path filePath = testFolder.resolve("outer.txt");
+        Files.write(filePath, List.of("batch " + innerFilePath));
+        assertParseFailure(parser, " " + filePath,
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 1, BatchCommandParser.MESSAGE_NESTED_BATCH));
+    }
+
+    @Test
+    public void parse_indexBasedCommand_throwsParseException() throws Exception {
+        Path filePath = writeBatchFile("mark_attendance i/E1234567 w/2 status/present", "delete 1");
+        assertParseFailure(parser, " " + filePath, String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2,
+                String.format(BatchCommandParser.MESSAGE_INDEX_BASED_COMMAND, DeleteCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void parse_nonDataCommand_throwsParseException() throws Exception {
+        assertNonDataCommandRejected(ExportCommand.COMMAND_WORD + " data/T01.csv", ExportCommand.COMMAND_WORD);
+        assertNonDataCommandRejected(HelpCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD);
+        assertNonDataCommandRejected(ExitCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void parse_missingOrEmptyFile_throwsParseException() throws Exception {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+
+        Path missingFilePath = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + missingFilePath,
+                String.format(BatchCommandParser.MESSAGE_CANNOT_READ_FILE, missingFilePath));
+
+        Path emptyFilePath = writeBatchFile("# nothing to run", "");
+        assertParseFailure(parser, " " + emptyFilePath,
+                String.format(BatchCommandParser.MESSAGE_EMPTY_BATCH, emptyFilePath));
+    }
+
+    private void assertNonDataCommandRejected(String line, String commandWord) throws Exception {
+        Path filePath = writeBatchFile("mark_attendance i/E1234567 w/2 status/present", line);
+        assertParseFailure(parser, " " + filePath, String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2,
+                String.format(BatchCommandParser.MESSAGE_NON_DATA_COMMAND, commandWord)));
+    }
+
+    private Path writeBatchFile(String... lines) throws Exception {
+        Path filePath = testFolder.resolve("batch.txt");
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.IdentityPrefixPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -31,4 +32,32 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_prefixSearch_returnsFindCommand() {
+        assertParseSuccess(parser, " i/E12 ",
+                new FindCommand(new IdentityPrefixPredicate(IdentityPrefixPredicate.Field.NUSNETID, "E12")));
+        assertParseSuccess(parser, " t/@al",
+                new FindCommand(new IdentityPrefixPredicate(IdentityPrefixPredicate.Field.TELEGRAM, "@al")));
+        assertParseSuccess(parser, " e/alice",
+                new FindCommand(new IdentityPrefixPredicate(IdentityPrefixPredicate.Field.EMAIL, "alice")));
+    }
+
+    @Test
+    public void parse_invalidPrefixSearch_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // keywords before the prefix
+        assertParseFailure(parser, "Alice i/E12", invalidFormat);
+
+        // more than one prefix
+        assertParseFailure(parser, " i/E12 t/@al", invalidFormat);
+        assertParseFailure(parser, " i/E12 i/E34", invalidFormat);
+
+        // nothing to search for
+        assertParseFailure(parser, " i/ ", invalidFormat);
+
+        // more than one word
+        assertParseFailure(parser, " t/@al ex", FindCommandParser.MESSAGE_PREFIX_NOT_ONE_WORD);
+    }
+
 }
@@ -0,0 +1,81 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.person.Nusnetid;
+
+public class ImportCommandParserTest {
+
+    private static final String AMY_ROW = "Amy Bee,E1111111,@Alicccc,T01,11111111,amy@u.nus.edu";
+    private static final String BOB_ROW = "Bob Choo,E2222222,@Bobbbb,T02,22222222,bob@u.nus.edu";
+
+    @TempDir
+    public Path testFolder;
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validFile_returnsImportCommand() throws Exception {
+        // columns in any order and case, with an extra column and a blank line
+        Path filePath = writeCsvFile("Email,Name,NUSNETID,extra,Group,Telegram,Phone",
+                "amy@u.nus.edu,Amy Bee,E1111111,x,T01,@Alicccc,11111111", "",
+                "bob@u.nus.edu,\"Bob Choo\",E2222222,x,T02,@Bobbbb,22222222");
+        assertParseSuccess(parser, " " + filePath, new ImportCommand(Map.of(2, AMY, 4, BOB), Map.of()));
+    }
+
+    @Test
+    public void parse_fileStartingWithByteOrderMark_returnsImportCommand() throws Exception {
+        Path filePath = writeCsvFile("\uFEFFname,nusnetid,telegram,group,phone,email", AMY_ROW);
+        assertParseSuccess(parser, " " + filePath, new ImportCommand(Map.of(2, AMY), Map.of()));
+    }
+
+    @Test
+    public void parse_invalidAndRepeatedRows_rowsReported() throws Exception {
+        Path filePath = writeCsvFile("name,nusnetid,telegram,group,phone,email", AMY_ROW,
+                "Amy Bee,E1111111,@Alicccc,T01", "Amy Bee,not an id,@Alicccc,T01,,", BOB_ROW,
+                "Amy Bee,E3333333,@other,T01,,amy@u.nus.edu");
+        Map<Integer, String> errorsByRow = Map.of(
+                3, String.format(ImportCommandParser.MESSAGE_WRONG_FIELD_COUNT, 6, 4),
+                4, "NUSNET ID: " + Nusnetid.MESSAGE_CONSTRAINTS,
+                6, String.format(ImportCommandParser.MESSAGE_DUPLICATE_ROW, 2));
+        assertParseSuccess(parser, " " + filePath, new ImportCommand(Map.of(2, AMY, 5, BOB), errorsByRow));
+    }
+
+    @Test
+    public void parse_missingColumns_throwsParseException() throws Exception {
+        Path filePath = writeCsvFile("name,nusnetid,group", "Amy Bee,E1111111,T01");
+        assertParseFailure(parser, " " + filePath, ImportCommandParser.MESSAGE_MISSING_COLUMNS);
+    }
+
+    @Test
+    public void parse_missingOrEmptyFile_throwsParseException() throws Exception {
+        assertParseFailure(parser, " ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+
+        Path missingFilePath = testFolder.resolve("missing.csv");
+        assertParseFailure(parser, " " + missingFilePath,
+                String.format(ImportCommandParser.MESSAGE_CANNOT_READ_FILE, missingFilePath));
+
+        Path emptyFilePath = writeCsvFile("name,nusnetid,telegram,group");
+        assertParseFailure(parser, " " + emptyFilePath,
+                String.format(ImportCommandParser.MESSAGE_EMPTY_FILE, emptyFilePath));
+    }
+
+    private Path writeCsvFile(String... lines) throws Exception {
+        Path filePath = testFolder.resolve("roster.csv");
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListConsultationCommand;
+import seedu.address.model.event.Consultation;
+
+public class ListConsultationCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListConsultationCommand.MESSAGE_USAGE);
+
+    private ListConsultationCommandParser parser = new ListConsultationCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListAllCommand() {
+        assertParseSuccess(parser, "  ", new ListConsultationCommand());
+    }
+
+    @Test
+    public void parse_window_returnsListBetweenCommand() {
+        assertParseSuccess(parser, " from/20251010 0800 to/20251010 1800",
+                new ListConsultationCommand(LocalDateTime.of(2025, 10, 10, 8, 0),
+                        LocalDateTime.of(2025, 10, 10, 18, 0)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " 3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/20251010 0800", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " to/20251010 1800", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/20251010 1800 to/20251010 0800", Consultation.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Person;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void of_addressBookChangedAfterwards_snapshotUnchanged() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<List<Person>> groupMembers = membersOf(addressBook.getGroupList());
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        addressBook.updateGroupWhenAddPerson(HOON);
+        addressBook.addConsultation(new Consultation(HOON.getNusnetid(),
+                LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 1, 11, 0)));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(snapshot));
+        assertEquals(groupMembers, membersOf(snapshot.getGroupList()));
+    }
+
+    @Test
+    public void updateGroupWhenAddPerson_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.updateGroupWhenAddPerson(HOON));
+    }
+
+    private static List<List<Person>> membersOf(List<Group> groups) {
+        return groups.stream().map(Group::getAllPersons).collect(Collectors.toList());
+    }
+}
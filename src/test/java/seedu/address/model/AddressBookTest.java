@@ -131,6 +131,55 @@ public class AddressBookTest {
         assertEquals("E2222222", stored.getConsultation().get().getNusnetid().value);
     }
 
+    @Test
+    public void getGroup_personEdited_groupSeesEditedPerson() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), addressBook.getGroup(ALICE.getGroupId()).getAllPersons());
+    }
+
+    @Test
+    public void moveStudentToNewGroup_existingStudent_updatesBothGroups() throws Exception {
+        addressBook.addPerson(ALICE);
+        GroupId newGroupId = new GroupId("T99");
+        addressBook.moveStudentToNewGroup(ALICE, newGroupId);
+        assertFalse(addressBook.getGroup(ALICE.getGroupId()).hasStudent(ALICE.getNusnetid()));
+        assertEquals(List.of(addressBook.getPerson(ALICE.getNusnetid())),
+                addressBook.getGroup(newGroupId).getAllPersons());
+    }
+
+    @Test
+    public void updatePersons_matchingPersons_updatedInGroupsToo() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        GroupId groupId = ALICE.getGroupId();
+        List<Person> updated = typicalAddressBook.updatePersons(person -> person.getGroupId().equals(groupId),
+                person -> person.withAddedHomework(1));
+
+        assertFalse(updated.isEmpty());
+        for (Person person : typicalAddressBook.getPersonList()) {
+            assertEquals(person.getGroupId().equals(groupId), person.getHomeworkTracker().contains(1));
+        }
+        assertEquals(updated, typicalAddressBook.getGroup(groupId).getAllPersons());
+    }
+
+    @Test
+    public void updatePersons_groupChanged_throwsIllegalArgumentException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> addressBook.updatePersons(person -> true,
+                person -> person.withUpdatedGroup(new GroupId("T99"))));
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void resetData_groupsOfOtherAddressBook_notShared() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        addressBook.removePerson(ALICE);
+        assertTrue(newData.getGroup(ALICE.getGroupId()).hasStudent(ALICE.getNusnetid()));
+        assertFalse(addressBook.getGroup(ALICE.getGroupId()).hasStudent(ALICE.getNusnetid()));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -11,14 +11,17 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.AttendanceStatus;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -101,6 +104,27 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void addAndSetPerson_filteredList_keepsFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonListByName(List.of("Benson"));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // a matching person added while filtered is shown
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        // an update that keeps the person matching keeps them shown
+        Person markedBenson = BENSON.withAttendance(2, AttendanceStatus.PRESENT);
+        modelManager.setPerson(BENSON, markedBenson);
+        assertEquals(List.of(markedBenson), modelManager.getFilteredPersonList());
+
+        // a person renamed away from the keywords drops out of the list
+        Person renamedBenson = new PersonBuilder(markedBenson).withName("Ben Meier").build();
+        modelManager.setPerson(markedBenson, renamedBenson);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
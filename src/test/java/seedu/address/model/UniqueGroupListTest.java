@@ -53,4 +53,23 @@ public class UniqueGroupListTest {
         uniqueGroupList.add(group1);
         assertThrows(IllegalArgumentException.class, () -> uniqueGroupList.setGroups(List.of(group1, group2)));
     }
+    @Test
+    public void setGroups_replacesGroups_updatesLookups() {
+        UniqueGroupList uniqueGroupList = new UniqueGroupList();
+        uniqueGroupList.add(new Group(new GroupId("T01")));
+        Group replacement = new Group(new GroupId("T02"));
+        uniqueGroupList.setGroups(List.of(replacement));
+        assertFalse(uniqueGroupList.contains(new GroupId("T01")));
+        assertEquals(replacement, uniqueGroupList.getGroup(new GroupId("T02")));
+        assertEquals(List.of(replacement), uniqueGroupList.asUnmodifiableObservableList());
+    }
+    @Test
+    public void equals_sameGroupsInDifferentOrder_returnsTrue() {
+        UniqueGroupList first = new UniqueGroupList();
+        first.setGroups(List.of(new Group(new GroupId("T01")), new Group(new GroupId("T02"))));
+        UniqueGroupList second = new UniqueGroupList();
+        second.setGroups(List.of(new Group(new GroupId("T02")), new Group(new GroupId("T01"))));
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
 }
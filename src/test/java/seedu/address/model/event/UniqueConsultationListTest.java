@@ -0,0 +1,141 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.exceptions.ConsultationNotFoundException;
+import seedu.address.model.event.exceptions.DuplicateConsultationException;
+import seedu.address.model.person.Nusnetid;
+
+public class UniqueConsultationListTest {
+
+    private static final Consultation MORNING = consultation("E1111111", 9, 10);
+    private static final Consultation LONG_MORNING = consultation("E2222222", 8, 12);
+    private static final Consultation AFTERNOON = consultation("E3333333", 14, 15);
+
+    private final UniqueConsultationList uniqueConsultationList = new UniqueConsultationList();
+
+    @Test
+    public void add_outOfOrder_keepsStartTimeOrder() {
+        uniqueConsultationList.add(AFTERNOON);
+        uniqueConsultationList.add(MORNING);
+        uniqueConsultationList.add(LONG_MORNING);
+        assertEquals(Arrays.asList(LONG_MORNING, MORNING, AFTERNOON),
+                uniqueConsultationList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_sameTiming_throwsDuplicateConsultationException() {
+        uniqueConsultationList.add(MORNING);
+        Consultation sameTiming = new Consultation(new Nusnetid("E4444444"), MORNING.getFrom(), MORNING.getTo());
+        assertThrows(DuplicateConsultationException.class, () -> uniqueConsultationList.add(sameTiming));
+    }
+
+    @Test
+    public void hasOverlappingConsultation_longerConsultationStartedEarlier_returnsTrue() {
+        uniqueConsultationList.add(LONG_MORNING);
+        uniqueConsultationList.add(AFTERNOON);
+        assertTrue(uniqueConsultationList.hasOverlappingConsultation(consultation("E5555555", 11, 13)));
+    }
+
+    @Test
+    public void hasOverlappingConsultation_touchingConsultations_returnsFalse() {
+        uniqueConsultationList.add(MORNING);
+        assertFalse(uniqueConsultationList.hasOverlappingConsultation(consultation("E5555555", 10, 11)));
+        assertFalse(uniqueConsultationList.hasOverlappingConsultation(consultation("E5555555", 7, 9)));
+    }
+
+    @Test
+    public void getConsultationsBetween_window_returnsOverlappingInOrder() {
+        uniqueConsultationList.setConsultations(List.of(AFTERNOON, MORNING, LONG_MORNING));
+        assertEquals(List.of(LONG_MORNING, MORNING), uniqueConsultationList.getConsultationsBetween(
+                LocalDateTime.of(2025, 1, 1, 9, 30), LocalDateTime.of(2025, 1, 1, 14, 0)));
+        assertEquals(List.of(AFTERNOON), uniqueConsultationList.getConsultationsBetween(
+                LocalDateTime.of(2025, 1, 1, 12, 0), LocalDateTime.of(2025, 1, 1, 18, 0)));
+    }
+
+    @Test
+    public void getConsultationsBetween_longConsultationElsewhere_returnsOnlyOverlapping() {
+        Consultation allDay = new Consultation(new Nusnetid("E6666666"),
+                LocalDateTime.of(2024, 12, 31, 0, 0), LocalDateTime.of(2025, 1, 1, 8, 30));
+        uniqueConsultationList.setConsultations(List.of(allDay, MORNING, LONG_MORNING, AFTERNOON));
+        assertEquals(List.of(allDay, LONG_MORNING), uniqueConsultationList.getConsultationsBetween(
+                LocalDateTime.of(2025, 1, 1, 8, 0), LocalDateTime.of(2025, 1, 1, 9, 0)));
+        assertEquals(List.of(AFTERNOON), uniqueConsultationList.getConsultationsBetween(
+                LocalDateTime.of(2025, 1, 1, 12, 0), LocalDateTime.of(2025, 1, 1, 18, 0)));
+
+        uniqueConsultationList.remove(LONG_MORNING);
+        assertEquals(List.of(allDay), uniqueConsultationList.getConsultationsBetween(
+                LocalDateTime.of(2025, 1, 1, 8, 0), LocalDateTime.of(2025, 1, 1, 9, 0)));
+    }
+
+    @Test
+    public void getConsultationsBetween_manyAddsAndRemoves_matchesLinearScan() {
+        List<Consultation> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            // Every seventh consultation runs for a whole day, so it overlaps many of the later short ones
+            int minutes = (i * 37) % 1440;
+            LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(minutes * 7L);
+            Consultation toAdd = new Consultation(new Nusnetid(String.format("E%07d", i)), from,
+                    from.plusMinutes(i % 7 == 0 ? 1440 : 30));
+            uniqueConsultationList.add(toAdd);
+            expected.add(toAdd);
+            if (i % 3 == 0) {
+                Consultation toRemove = expected.remove(expected.size() / 2);
+                uniqueConsultationList.remove(toRemove);
+            }
+            LocalDateTime windowFrom = LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i * 41L);
+            LocalDateTime windowTo = windowFrom.plusMinutes(90);
+            List<Consultation> overlapping = expected.stream()
+                    .filter(c -> c.getFrom().isBefore(windowTo) && c.getTo().isAfter(windowFrom))
+                    .sorted(Comparator.comparing(Consultation::getFrom).thenComparing(Consultation::getTo))
+                    .collect(Collectors.toList());
+            assertEquals(overlapping, uniqueConsultationList.getConsultationsBetween(windowFrom, windowTo));
+        }
+    }
+
+    @Test
+    public void remove_longestConsultation_stopsReportingItsOverlap() {
+        uniqueConsultationList.add(LONG_MORNING);
+        uniqueConsultationList.add(MORNING);
+        uniqueConsultationList.remove(LONG_MORNING);
+        assertFalse(uniqueConsultationList.hasOverlappingConsultation(consultation("E5555555", 11, 12)));
+        assertEquals(List.of(MORNING), uniqueConsultationList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_consultationNotInList_throwsConsultationNotFoundException() {
+        assertThrows(ConsultationNotFoundException.class, () -> uniqueConsultationList.remove(MORNING));
+    }
+
+    @Test
+    public void setConsultation_differentTiming_movesToNewPosition() {
+        uniqueConsultationList.setConsultations(List.of(MORNING, AFTERNOON));
+        Consultation evening = consultation("E1111111", 18, 19);
+        uniqueConsultationList.setConsultation(MORNING, evening);
+        assertEquals(List.of(AFTERNOON, evening), uniqueConsultationList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setConsultations_listWithDuplicateTimings_throwsDuplicateConsultationException() {
+        Consultation sameTiming = new Consultation(new Nusnetid("E4444444"), MORNING.getFrom(), MORNING.getTo());
+        assertThrows(DuplicateConsultationException.class, () ->
+                uniqueConsultationList.setConsultations(List.of(MORNING, AFTERNOON, sameTiming)));
+    }
+
+    private static Consultation consultation(String nusnetid, int fromHour, int toHour) {
+        return new Consultation(new Nusnetid(nusnetid),
+                LocalDateTime.of(2025, 1, 1, fromHour, 0), LocalDateTime.of(2025, 1, 1, toHour, 0));
+    }
+}
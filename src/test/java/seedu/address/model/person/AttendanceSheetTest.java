@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceSheetTest {
+
+    @Test
+    public void constructor_default_noWeeksMarked() {
+        AttendanceSheet sheet = new AttendanceSheet();
+        assertTrue(sheet.getAttendanceList().isEmpty());
+        assertFalse(sheet.getAttendanceForWeek(2).isPresent());
+    }
+
+    @Test
+    public void markAttendance_validWeek_marksOnlyThatWeek() {
+        AttendanceSheet sheet = new AttendanceSheet();
+        AttendanceSheet updated = sheet.markAttendance(13, AttendanceStatus.EXCUSED);
+
+        assertEquals(new Attendance(13, AttendanceStatus.EXCUSED), updated.getAttendanceForWeek(13).get());
+        assertFalse(updated.getAttendanceForWeek(12).isPresent());
+        assertFalse(sheet.getAttendanceForWeek(13).isPresent()); // immutability check
+    }
+
+    @Test
+    public void markAttendance_markedWeek_replacesStatus() {
+        AttendanceSheet sheet = new AttendanceSheet().markAttendance(5, AttendanceStatus.EXCUSED)
+                .markAttendance(5, AttendanceStatus.PRESENT);
+        assertEquals(AttendanceStatus.PRESENT, sheet.getAttendanceForWeek(5).get().getAttendanceStatus());
+        assertSame(sheet, sheet.markAttendance(5, AttendanceStatus.PRESENT));
+    }
+
+    @Test
+    public void markAttendance_invalidWeek_throwsIllegalArgumentException() {
+        AttendanceSheet sheet = new AttendanceSheet();
+        assertThrows(IllegalArgumentException.class, () -> sheet.markAttendance(1, AttendanceStatus.PRESENT));
+        assertThrows(IllegalArgumentException.class, () -> sheet.markAttendance(14, AttendanceStatus.PRESENT));
+    }
+
+    @Test
+    public void getAttendanceList_weeksMarkedOutOfOrder_inOrderOfWeek() {
+        AttendanceSheet sheet = new AttendanceSheet().markAttendance(9, AttendanceStatus.ABSENT)
+                .markAttendance(2, AttendanceStatus.PRESENT);
+        assertEquals(List.of(new Attendance(2, AttendanceStatus.PRESENT), new Attendance(9, AttendanceStatus.ABSENT)),
+                sheet.getAttendanceList());
+    }
+
+    @Test
+    public void count_mixedStatuses_countsEachStatus() {
+        AttendanceSheet sheet = new AttendanceSheet().markAttendance(2, AttendanceStatus.PRESENT)
+                .markAttendance(3, AttendanceStatus.PRESENT).markAttendance(4, AttendanceStatus.ABSENT)
+                .markAttendance(13, AttendanceStatus.EXCUSED);
+        assertEquals(2, sheet.count(AttendanceStatus.PRESENT));
+        assertEquals(1, sheet.count(AttendanceStatus.ABSENT));
+        assertEquals(1, sheet.count(AttendanceStatus.EXCUSED));
+    }
+
+    @Test
+    public void fromPacked_toPacked_sameSheet() {
+        AttendanceSheet sheet = new AttendanceSheet().markAttendance(7, AttendanceStatus.ABSENT);
+        assertEquals(sheet, AttendanceSheet.fromPacked(sheet.toPacked()));
+        assertThrows(IllegalArgumentException.class, () -> AttendanceSheet.fromPacked(1L << 24));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceSheet sheet = new AttendanceSheet().markAttendance(2, AttendanceStatus.PRESENT);
+        assertEquals(sheet, new AttendanceSheet().markAttendance(2, AttendanceStatus.PRESENT));
+        assertEquals(sheet.hashCode(), new AttendanceSheet().markAttendance(2, AttendanceStatus.PRESENT).hashCode());
+        assertNotEquals(sheet, new AttendanceSheet().markAttendance(2, AttendanceStatus.ABSENT));
+        assertNotEquals(sheet, null);
+    }
+}
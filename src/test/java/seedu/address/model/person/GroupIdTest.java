@@ -0,0 +1,41 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class GroupIdTest {
+
+    @Test
+    public void constructor_invalidGroupId_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new GroupId(null));
+        assertThrows(IllegalArgumentException.class, () -> new GroupId("T1"));
+    }
+
+    @Test
+    public void isValidGroupId() {
+        // invalid group ids
+        assertFalse(GroupId.isValidGroupId("")); // empty string
+        assertFalse(GroupId.isValidGroupId("T1")); // one digit
+        assertFalse(GroupId.isValidGroupId("T001")); // three digits
+        assertFalse(GroupId.isValidGroupId("C01")); // other letter
+        assertFalse(GroupId.isValidGroupId("T0a")); // letter among the digits
+
+        // valid group ids
+        assertTrue(GroupId.isValidGroupId("T01"));
+        assertTrue(GroupId.isValidGroupId("b12"));
+    }
+
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> GroupId.parse(null));
+        assertFalse(GroupId.parse("T1").isPresent());
+        assertEquals("B12", GroupId.parse("b12").get().value);
+        assertEquals(new GroupId("t01"), GroupId.parse("T01").get());
+        assertSame(GroupId.parse("T01").get(), GroupId.parse("t01").get());
+    }
+}
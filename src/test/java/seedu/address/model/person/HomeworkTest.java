@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -61,6 +62,14 @@ public class HomeworkTest {
         assertNotSame(hw1, hw2); // new object
     }
 
+    @Test
+    public void of_sameIdAndStatus_returnsSameInstance() {
+        Homework hw = Homework.of(3, HomeworkStatus.LATE);
+        assertSame(hw, Homework.of(3, HomeworkStatus.LATE));
+        assertSame(hw, new Homework(3, Homework.STATUS_INCOMPLETE).withStatus(Homework.STATUS_LATE));
+        assertThrows(IllegalArgumentException.class, () -> Homework.of(14, HomeworkStatus.LATE));
+    }
+
     @Test
     public void withStatus_invalidStatus_throwsIllegalArgumentException() {
         Homework hw = new Homework(3, Homework.STATUS_LATE);
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -165,6 +166,38 @@ public class HomeworkTrackerTest {
         assertNotEquals(t1, "string");
     }
 
+    @Test
+    public void updateStatus_homeworkStatus_updatesOnlyThatAssignment() {
+        HomeworkTracker tracker = new HomeworkTracker().addHomework(1).addHomework(13);
+        HomeworkTracker updated = tracker.updateStatus(13, HomeworkStatus.LATE);
+
+        assertEquals(Homework.STATUS_LATE, updated.getStatus(13));
+        assertEquals(Homework.STATUS_INCOMPLETE, updated.getStatus(1));
+        assertSame(updated, updated.updateStatus(13, HomeworkStatus.LATE));
+    }
+
+    @Test
+    public void removeHomework_existingAssignment_removesSuccessfully() {
+        HomeworkTracker tracker = new HomeworkTracker().addHomework(5).removeHomework(5);
+        assertEquals(new HomeworkTracker(), tracker);
+        assertThrows(IllegalArgumentException.class, () -> tracker.removeHomework(5));
+    }
+
+    @Test
+    public void asMap_inOrderOfAssignmentId() {
+        HomeworkTracker tracker = new HomeworkTracker().addHomework(9).addHomework(2).updateStatus(9, "complete");
+        assertEquals(List.of(2, 9), List.copyOf(tracker.asMap().keySet()));
+        assertEquals(new Homework(9, Homework.STATUS_COMPLETE), tracker.asMap().get(9));
+        assertSame(tracker.asMap(), tracker.asMap());
+    }
+
+    @Test
+    public void fromPacked_toPacked_sameTracker() {
+        HomeworkTracker tracker = new HomeworkTracker().addHomework(3).updateStatus(3, HomeworkStatus.COMPLETE);
+        assertEquals(tracker, HomeworkTracker.fromPacked(tracker.toPacked()));
+        assertThrows(IllegalArgumentException.class, () -> HomeworkTracker.fromPacked(1 << 26));
+    }
+
     @Test
     public void toString_correctFormat() {
         HomeworkTracker tracker = new HomeworkTracker().addHomework(1).updateStatus(1, Homework.STATUS_COMPLETE);
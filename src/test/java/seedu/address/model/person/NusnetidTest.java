@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -29,11 +30,22 @@ public class NusnetidTest {
         assertFalse(Nusnetid.isValidNusnetid(" ")); // spaces only
         assertFalse(Nusnetid.isValidNusnetid("E123456")); //only 6 digits
         assertFalse(Nusnetid.isValidNusnetid("E12345678")); //8 digits
+        assertFalse(Nusnetid.isValidNusnetid("A1234567")); // starts with another letter
+        assertFalse(Nusnetid.isValidNusnetid("E123456a")); // letter among the digits
+        assertFalse(Nusnetid.isValidNusnetid("E123456\u0663")); // non-ASCII digit
         // valid nusnetids
         assertTrue(Nusnetid.isValidNusnetid("E1234567"));
         assertTrue(Nusnetid.isValidNusnetid("e1234567")); //starts with "e"
     }
 
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> Nusnetid.parse(null));
+        assertFalse(Nusnetid.parse("E123456").isPresent());
+        assertEquals(new Nusnetid("E1234567"), Nusnetid.parse("e1234567").get());
+        assertEquals("E1234567", Nusnetid.parse("e1234567").get().value);
+    }
+
     @Test
     public void equals() {
         Nusnetid nusnetid = new Nusnetid("E1234567");
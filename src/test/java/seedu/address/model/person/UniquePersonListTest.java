@@ -2,19 +2,24 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NUSNETID_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -51,6 +56,21 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameTelegramInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person sameTelegram = new PersonBuilder(BOB).withTelegram(ALICE.getTelegram().value).build();
+        assertTrue(uniquePersonList.contains(sameTelegram));
+    }
+
+    @Test
+    public void find_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(BOB, uniquePersonList.find(BOB.getNusnetid()));
+        assertNull(uniquePersonList.find(CARL.getNusnetid()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -115,6 +135,22 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonClashesWithThirdPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withTelegram(BOB.getTelegram().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesLookups() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE.getNusnetid()));
+        assertEquals(BOB, uniquePersonList.find(BOB.getNusnetid()));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -133,6 +169,18 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_firstOfSeveralPersons_keepsLaterPersonsUpdatable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withName(VALID_NAME_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BOB, editedCarl), uniquePersonList.toList());
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -168,6 +216,110 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSharedEmail_throwsDuplicatePersonExceptionNamingPair() {
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().get().value).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, CARL, bobWithAliceEmail);
+        String expectedMessage = new DuplicatePersonException(ALICE, bobWithAliceEmail).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void addAll_newPersons_addedInOneChange() {
+        uniquePersonList.add(ALICE);
+        int[] changes = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> changes[0]++);
+
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+
+        assertEquals(1, changes[0]);
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL.getNusnetid()));
+    }
+
+    @Test
+    public void addAll_duplicatePerson_throwsDuplicatePersonExceptionAndAddsNothing() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().get().value).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.addAll(Arrays.asList(CARL, bobWithAliceEmail)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(CARL, CARL)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updatePersons_personsInList_replacedInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        int[] changes = {0};
+        List<Integer> replacedPositions = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> {
+            changes[0]++;
+            while (c.next()) {
+                assertTrue(c.wasReplaced());
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    replacedPositions.add(i);
+                }
+            }
+        });
+
+        List<Person> updated = uniquePersonList.updatePersons(Arrays.asList(CARL, ALICE),
+                person -> person.withAttendance(2, AttendanceStatus.PRESENT));
+
+        assertEquals(1, changes[0]);
+        assertEquals(Arrays.asList(0, 2), replacedPositions);
+        assertEquals(Arrays.asList(updated.get(1), BOB, updated.get(0)), uniquePersonList.toList());
+        assertEquals(AttendanceStatus.PRESENT,
+                uniquePersonList.find(ALICE.getNusnetid()).getAttendanceSheet().getAttendanceForWeek(2).get()
+                        .getAttendanceStatus());
+    }
+
+    @Test
+    public void updatePersons_identityChanged_listUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.updatePersons(Arrays.asList(ALICE, BOB),
+                person -> person == BOB ? new PersonBuilder(BOB).withNusnetid("E7654321").build() : person));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.toList());
+    }
+
+    @Test
+    public void updatePersons_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.updatePersons(List.of(BOB), person -> person));
+    }
+
+    @Test
+    public void nameContainsAnyOf_matchesWholeWordsIgnoringCase() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Predicate<Person> predicate = uniquePersonList.nameContainsAnyOf(Arrays.asList("aLIce", "kurz", "Bo"));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(CARL));
+        assertFalse(predicate.test(BOB));
+    }
+
+    @Test
+    public void nameContainsAnyOf_listChanged_followsChanges() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> predicate = uniquePersonList.nameContainsAnyOf(List.of("Zed"));
+        assertFalse(predicate.test(ALICE));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertTrue(predicate.test(renamedAlice));
+
+        Person zed = new PersonBuilder(BOB).withName("Zed Lim").build();
+        uniquePersonList.add(zed);
+        assertTrue(predicate.test(zed));
+
+        uniquePersonList.remove(renamedAlice);
+        assertFalse(predicate.test(renamedAlice));
+        assertTrue(predicate.test(zed));
+
+        uniquePersonList.setPersons(List.of(ALICE));
+        assertFalse(predicate.test(zed));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
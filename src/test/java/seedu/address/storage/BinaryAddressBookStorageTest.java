@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.bin");
+        storage = new BinaryAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_homeworkAttendanceAndConsultations_preserved() throws Exception {
+        AttendanceSheet attendanceSheet = new AttendanceSheet().markAttendance(2, AttendanceStatus.PRESENT)
+                .markAttendance(13, AttendanceStatus.EXCUSED).markAttendance(7, AttendanceStatus.ABSENT);
+        Person person = new PersonBuilder(HOON).withAttendanceSheet(attendanceSheet)
+                .withAddedHomework(1).withAddedHomework(13).build()
+                .withUpdatedHomework(13, Homework.STATUS_LATE);
+        Consultation consultation = new Consultation(person.getNusnetid(),
+                LocalDateTime.of(1969, 12, 31, 23, 30), LocalDateTime.of(2025, 1, 1, 11, 0));
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(person.addConsultation(consultation));
+        original.addConsultation(consultation);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        Person readPerson = readBack.getPersonList().get(readBack.getPersonList().size() - 1);
+
+        assertEquals(person.getHomeworkTracker(), readPerson.getHomeworkTracker());
+        assertEquals(Arrays.asList(attendanceSheet.getAttendanceForWeek(2).get(),
+                attendanceSheet.getAttendanceForWeek(7).get(), attendanceSheet.getAttendanceForWeek(13).get()),
+                readPerson.getAttendanceSheet().getAttendanceList());
+        assertEquals(consultation, readPerson.getConsultation().get());
+        assertEquals(original.getConsultationList(), readBack.getConsultationList());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unknownVersion_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookStorage.VERSION - 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void getBinaryFilePath_jsonDataFile_replacesExtension() {
+        assertEquals(testFolder.resolve("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(testFolder.resolve("addressbook.json")));
+        assertEquals(testFolder.resolve("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(testFolder.resolve("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingBinaryFile_importsJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        BinaryAddressBookStorage importingStorage = new BinaryAddressBookStorage(filePath, jsonFilePath);
+
+        assertEquals(original, new AddressBook(importingStorage.readAddressBook().get()));
+        assertFalse(Files.exists(filePath));
+
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        importingStorage.saveAddressBook(edited);
+        assertEquals(edited, new AddressBook(importingStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_fileOfOtherFormat_notWrittenOver() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        assertThrows(IOException.class, () -> storage.saveAddressBook(new AddressBook()));
+        assertTrue(Arrays.equals(bytes, Files.readAllBytes(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_loadsRollbackFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        Files.delete(BinaryAddressBookStorage.getRollbackFilePath(filePath));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSnapshot_appendedToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBook(original));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withNusnetid("E7654321").build());
+        original.removePerson(ALICE);
+        storage.saveAddressBook(new AddressBook(original));
+        original.addPerson(HOON);
+        original.addConsultation(new Consultation(HOON.getNusnetid(),
+                LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 1, 11, 0)));
+        storage.saveAddressBook(new AddressBook(original));
+
+        // One line identifying the snapshot, then one line per change
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertSameContents(original, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalsNothing() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBook(original));
+        storage.saveAddressBook(new AddressBook(original));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void flushAddressBook_journaledChanges_compactedIntoSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBook(original));
+        original.addPerson(HOON);
+        storage.saveAddressBook(new AddressBook(original));
+
+        storage.flushAddressBook();
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameContents(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compactionIntervalReached_compactedIntoSnapshot() throws Exception {
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 1, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBook(original));
+        original.addPerson(HOON);
+        storage.saveAddressBook(new AddressBook(original));
+        original.removePerson(HOON);
+        storage.saveAddressBook(new AddressBook(original));
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameContents(original, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastChange_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBook(original));
+        original.addPerson(HOON);
+        storage.saveAddressBook(new AddressBook(original));
+        Files.write(storage.getJournalFilePath(), "{\"persons\":[{\"name\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertSameContents(original, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_unreadableChangeBeforeOthers_changesBeforeItLoadedAndCompacted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBook(original));
+        AddressBook withHoon = new AddressBook(original);
+        withHoon.addPerson(HOON);
+        storage.saveAddressBook(new AddressBook(withHoon));
+
+        // A change cut short, with the next change appended onto the same line and another on a line of its own
+        Files.write(storage.getJournalFilePath(), "{\"persons\":[{\"name\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        AddressBook withIda = new AddressBook(withHoon);
+        withIda.addPerson(IDA);
+        storage.saveAddressBook(new AddressBook(withIda));
+        withIda.removePerson(ALICE);
+        storage.saveAddressBook(new AddressBook(withIda));
+
+        assertSameContents(withHoon, readWithNewStorage());
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameContents(withHoon, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalOfEarlierSnapshot_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBook(original));
+        original.addPerson(HOON);
+        storage.saveAddressBook(new AddressBook(original));
+
+        // The snapshot is rewritten, as when the app stops between saving a snapshot and deleting the journal
+        AddressBook rewritten = getTypicalAddressBook();
+        rewritten.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(rewritten);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        assertSameContents(rewritten, readWithNewStorage());
+    }
+
+    private ReadOnlyAddressBook readWithNewStorage() throws Exception {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook().get();
+    }
+
+    /**
+     * Asserts that both address books hold equal persons, in the same order, and equal consultations.
+     */
+    private static void assertSameContents(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getConsultationList(), actual.getConsultationList());
+    }
+}
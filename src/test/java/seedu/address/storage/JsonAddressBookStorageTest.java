@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -60,6 +62,19 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void read_notJsonObject_exceptionThrown() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("notObjectAddressBook.json"));
+    }
+
+    @Test
+    public void read_unknownFieldsBeforePersons_fieldsIgnored() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("unknownFieldsAddressBook.json").get();
+        assertEquals(1, readBack.getPersonList().size());
+        assertEquals("E1234567", readBack.getPersonList().get(0).getNusnetid().value);
+        assertEquals(1, readBack.getGroupList().size());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +101,64 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrintedOrCompact_readsBackTheSame() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path compactFile = testFolder.resolve("Compact.json");
+        Path prettyFile = testFolder.resolve("Pretty.json");
+        new JsonAddressBookStorage(compactFile).saveAddressBook(original);
+        new JsonAddressBookStorage(prettyFile, true).saveAddressBook(original);
+
+        assertFalse(Files.readString(compactFile).contains("\n"));
+        assertTrue(Files.readString(prettyFile).contains("\n"));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compactFile).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(prettyFile).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedDataFile_loadsRollbackFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(edited);
+
+        // A save cut short leaves a truncated data file
+        Files.writeString(filePath, "{\"persons\": [ {");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_existingDataFile_keptAsRollbackFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(edited);
+
+        Path rollbackFilePath = JsonAddressBookStorage.getRollbackFilePath(filePath);
+        assertEquals(edited, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(rollbackFilePath).get()));
+        assertFalse(Files.exists(filePath.resolveSibling(filePath.getFileName() + ".tmp")));
+    }
+
+    @Test
+    public void readAddressBook_missingDataFile_loadsRollbackFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        Files.delete(filePath);
+        assertTrue(Files.exists(JsonAddressBookStorage.getRollbackFilePath(filePath)));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +67,13 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void getAddressBookFilePaths_jsonDataFile_includesEveryFileStorageWrites() {
+        List<Path> filePaths = StorageManager.getAddressBookFilePaths(testFolder.resolve("addressbook.json"));
+        for (String fileName : List.of("addressbook.json", "addressbook.json.bak", "addressbook.json.tmp",
+                "addressbook.json.journal", "addressbook.bin", "addressbook.bin.bak", "addressbook.bin.journal")) {
+            assertTrue(filePaths.contains(testFolder.resolve(fileName)), fileName);
+        }
+    }
+
 }